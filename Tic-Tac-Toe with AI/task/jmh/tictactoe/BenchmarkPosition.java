@@ -0,0 +1,28 @@
+package tictactoe;
+
+// Written row by row like the fill stage input
+enum BenchmarkPosition {
+    EMPTY("_________"),
+    MID_GAME("X_O_O___X"),
+    NEAR_FULL("XOXOOX_X_");
+
+    private final String cells;
+
+    BenchmarkPosition(String cells) {
+        this.cells = cells;
+    }
+
+    public BoardUtilWithAILogic createBoardUtil() {
+        BoardGeometry geometry = BoardGeometry.STANDARD;
+        BoardUtilWithAILogic boardUtil = new BoardUtilWithAILogic(geometry);
+        for(int cell = 0; cell < geometry.getCellCount(); cell++)
+            boardUtil.updateBoardValue(geometry.getRowIndex(cell), geometry.getColIndex(cell), cells.charAt(cell));
+        return boardUtil;
+    }
+
+    public char getSideToMove() {
+        long xCount = cells.chars().filter(c -> c == BoardUtil.CHARS_ALLOWED[BoardUtil.X_INDEX]).count();
+        long oCount = cells.chars().filter(c -> c == BoardUtil.CHARS_ALLOWED[BoardUtil.O_INDEX]).count();
+        return BoardUtil.CHARS_ALLOWED[xCount == oCount ? BoardUtil.X_INDEX : BoardUtil.O_INDEX];
+    }
+}
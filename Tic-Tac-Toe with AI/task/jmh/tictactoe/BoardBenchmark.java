@@ -0,0 +1,67 @@
+package tictactoe;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+    @Param({"EMPTY", "MID_GAME", "NEAR_FULL"})
+    public String position;
+
+    private BoardUtilWithAILogic boardUtil;
+    private GameRound round;
+    private Element emptyElement;
+    private int side;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkPosition benchmarkPosition = BenchmarkPosition.valueOf(position);
+        boardUtil = benchmarkPosition.createBoardUtil();
+        BitBoard board = boardUtil.getBitBoard();
+        BoardGeometry geometry = boardUtil.getGeometry();
+        int emptyCell = 0, lastCell = 0;
+        for(int cell = geometry.getCellCount() - 1; cell >= 0; cell--) {
+            if(board.isEmpty(cell))
+                emptyCell = cell;
+            else
+                lastCell = cell;
+        }
+        emptyElement = Element.createElement(geometry.getRowIndex(emptyCell), geometry.getColIndex(emptyCell));
+        side = BitBoard.getSide(benchmarkPosition.getSideToMove());
+        // The round checked is the move on the first marked cell, as if it had just been played
+        round = new GameRound(boardUtil, RoundType.MACHINE_ROUND);
+        round.setInputElement(Element.createElement(geometry.getRowIndex(lastCell), geometry.getColIndex(lastCell)));
+    }
+
+    @Benchmark
+    public GameStatus checkRoundInput() {
+        return boardUtil.getBoardVerifier().checkRoundInput(round);
+    }
+
+    // Leaves the board as it was
+    @Benchmark
+    public int[] updateBoardStatistics() {
+        boardUtil.updateBoardStatistics(emptyElement, BoardUtil.CHARS_ALLOWED[side]);
+        boardUtil.updateBoardStatistics(emptyElement, BoardUtil.CHARS_ALLOWED[BoardUtil.EMPTY_SPACE_INDEX]);
+        int[] boardStatistics = boardUtil.getBoardStatistics();
+        boardStatistics[side]--;
+        return boardStatistics;
+    }
+}
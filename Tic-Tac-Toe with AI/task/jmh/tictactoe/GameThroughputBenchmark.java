@@ -0,0 +1,47 @@
+package tictactoe;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameThroughputBenchmark {
+    @Param({"EASY", "MEDIUM", "HARD"})
+    public String level1;
+
+    @Param({"EASY", "MEDIUM", "HARD"})
+    public String level2;
+
+    private GameSimulator simulator;
+    private ComputerStrategy[] strategies;
+    private long gameId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        simulator = new GameSimulator(GameLevel.valueOf(level1), GameLevel.valueOf(level2), BoardGeometry.STANDARD, 1);
+        strategies = simulator.createStrategies();
+    }
+
+    @Benchmark
+    public SimulationResult playGame() {
+        SimulationResult result = new SimulationResult();
+        simulator.playGame(strategies, GameSeeds.getGameSeed(ComputerStrategy.RANDOM_SEED, gameId++), result);
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+package tictactoe;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// chooseMove skips the console line, and hard starts from an emptied table
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+    @Param({"EASY", "MEDIUM", "HARD", "MCTS"})
+    public String level;
+
+    @Param({"EMPTY", "MID_GAME", "NEAR_FULL"})
+    public String position;
+
+    private ComputerStrategy strategy;
+    private TranspositionTable transpositionTable;
+    private GameRound round;
+    private char value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GameLevel gameLevel = GameLevel.valueOf(level);
+        BenchmarkPosition benchmarkPosition = BenchmarkPosition.valueOf(position);
+        transpositionTable = new TranspositionTable(TranspositionTable.DEFAULT_SIZE);
+        strategy = gameLevel == GameLevel.HARD ?
+                new HardGameStrategy(SearchMode.ITERATIVE_DEEPENING, transpositionTable, SearchLimits.UNLIMITED) :
+                new GameFactory().getStrategy(gameLevel);
+        round = new GameRound(benchmarkPosition.createBoardUtil(), RoundType.MACHINE_ROUND, strategy);
+        value = benchmarkPosition.getSideToMove();
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        transpositionTable.clear();
+    }
+
+    @Benchmark
+    public Element chooseMove() {
+        return strategy.chooseMove(round, value);
+    }
+}
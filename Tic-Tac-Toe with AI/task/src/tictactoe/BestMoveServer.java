@@ -0,0 +1,261 @@
+package tictactoe;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+// Serves GET /move?board=X_O_O___X&level=hard[&size=3&winLength=3] and GET /metrics. Usage: BestMoveServer [port [threads]]
+public class BestMoveServer {
+    public static final int DEFAULT_PORT = 8080;
+    public static final String THREADS_PROPERTY = "tictactoe.http.threads";
+    public static final String CACHE_SIZE_PROPERTY = "tictactoe.http.cacheSize";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    // Keyed by level, size, win length and the canonical hash of the board, the moves in canonical orientation
+    private final Map<String, BitSet> cache;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    public BestMoveServer(int port) throws IOException {
+        this(port, Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()),
+                Integer.getInteger(CACHE_SIZE_PROPERTY, 1 << 16));
+    }
+
+    public BestMoveServer(int port, int threadCount, int cacheSize) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        this.executor = Executors.newFixedThreadPool(threadCount);
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<String, BitSet>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, BitSet> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        server.setExecutor(executor);
+        server.createContext("/move", this::handleMove);
+        server.createContext("/metrics", this::handleMetrics);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        BestMoveServer server = args.length > 1 ?
+                new BestMoveServer(port, Integer.parseInt(args[1]), Integer.getInteger(CACHE_SIZE_PROPERTY, 1 << 16)) :
+                new BestMoveServer(port);
+        server.start();
+        System.out.println("Listening on port " + server.getPort());
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    private void handleMove(HttpExchange exchange) throws IOException {
+        long startTime = System.nanoTime();
+        int statusCode = 200;
+        String body;
+        if(!exchange.getRequestMethod().equals("GET")) {
+            statusCode = 405;
+            body = toErrorJson("Only GET is supported");
+        } else {
+            try {
+                Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+                body = findMove(query.get("board"), query.get("level"), parseNumber(query.get("size"), -1),
+                        parseNumber(query.get("winLength"), -1));
+            } catch(IllegalArgumentException e) {
+                statusCode = 400;
+                body = toErrorJson(e.getMessage());
+            }
+        }
+        send(exchange, statusCode, "application/json", body);
+        latency.record(System.nanoTime() - startTime);
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        StringBuilder metrics = new StringBuilder();
+        latency.appendPrometheus(metrics, "tictactoe_move_request_seconds", "Latency of the /move requests.");
+        metrics.append("# HELP tictactoe_move_cache_hits_total Moves answered from the cache.\n")
+                .append("# TYPE tictactoe_move_cache_hits_total counter\n")
+                .append("tictactoe_move_cache_hits_total ").append(cacheHits.sum()).append('\n')
+                .append("# HELP tictactoe_move_cache_misses_total Moves the engine had to choose.\n")
+                .append("# TYPE tictactoe_move_cache_misses_total counter\n")
+                .append("tictactoe_move_cache_misses_total ").append(cacheMisses.sum()).append('\n');
+        send(exchange, 200, "text/plain; version=0.0.4", metrics.toString());
+    }
+
+    // A size or win length of -1 means not given
+    public String findMove(String boardString, String levelName, int size, int winLength) {
+        if(boardString == null || levelName == null)
+            throw new IllegalArgumentException("The board and level parameters are required");
+        int boardSize = size == -1 ? BoardGeometry.DEFAULT_SIZE : size;
+        int boardWinLength = winLength == -1 ? (size == -1 ? BoardGeometry.DEFAULT_WIN_LENGTH : size) : winLength;
+        if(!BoardGeometry.isValid(boardSize, boardWinLength))
+            throw new IllegalArgumentException("Not a valid board size and win length");
+        GameFactory factory = new GameFactory(BoardGeometry.of(boardSize, boardWinLength));
+        BoardGeometry geometry = factory.getGeometry();
+        GameLevel level = factory.getGameLevel(levelName);
+        if(level == null)
+            throw new IllegalArgumentException("Unknown level: " + levelName);
+        ElementError error = new FillBoardAndTestBoardVerifier(new BoardUtil(geometry)).isBoardStringValid(boardString);
+        if(error != null)
+            throw new IllegalArgumentException(error.getMessage(geometry));
+
+        BitBoard board = new BitBoard(geometry);
+        for(int cell = 0; cell < geometry.getCellCount(); cell++)
+            board.setSide(cell, BitBoard.getSide(boardString.charAt(cell)));
+        // Whoever has fewer marks moves, X on a tie, as in the fill stage
+        int xCount = (int) boardString.chars().filter(c -> c == BoardUtil.CHARS_ALLOWED[BoardUtil.X_INDEX]).count();
+        int side = 2 * xCount > board.getStoneCount() ? BoardUtil.O_INDEX : BoardUtil.X_INDEX;
+        GameStatus status = getStatus(board);
+        if(status != GameStatus.GAME_NOT_FINISHED)
+            return toMoveJson(level, geometry, side, -1, boardString, status, false);
+
+        // The 8 orientations of a board share an entry, as in the transposition table
+        int symmetry = board.getCanonicalSymmetry(), inverseSymmetry = geometry.getInverseSymmetry(symmetry);
+        String key = level.name() + ' ' + boardSize + ' ' + boardWinLength + ' ' +
+                Long.toHexString(board.getSymmetricHash(symmetry));
+        BitSet canonicalMoves = cache.get(key);
+        int move = canonicalMoves == null ? -1 : getFirstCell(geometry, inverseSymmetry, canonicalMoves);
+        // Another board with the same hash is caught when its move lands on a taken cell
+        boolean isCached = move != -1 && board.isEmpty(move);
+        if(isCached)
+            cacheHits.increment();
+        else {
+            cacheMisses.increment();
+            canonicalMoves = chooseCanonicalMoves(factory, level, board, side, symmetry);
+            cache.put(key, canonicalMoves);
+            move = getFirstCell(geometry, inverseSymmetry, canonicalMoves);
+        }
+        board.place(move, side);
+        status = board.isWinThrough(move, side) ? (side == BoardUtil.X_INDEX ? GameStatus.X_WINS : GameStatus.O_WINS) :
+                board.isFull() ? GameStatus.DRAW : GameStatus.GAME_NOT_FINISHED;
+        char[] boardAfter = boardString.toCharArray();
+        boardAfter[move] = BoardUtil.CHARS_ALLOWED[side];
+        return toMoveJson(level, geometry, side, move, new String(boardAfter), status, isCached);
+    }
+
+    // Hard breaks ties towards the first cell, so it searches the board as sent and keeps every best move. The other
+    // levels choose one move on the canonical board, seeded from it, so all orientations get the same answer.
+    private static BitSet chooseCanonicalMoves(GameFactory factory, GameLevel level, BitBoard board, int side,
+                                               int symmetry) {
+        BoardGeometry geometry = factory.getGeometry();
+        BitSet canonicalMoves = new BitSet(geometry.getCellCount());
+        if(level == GameLevel.HARD) {
+            HardGameStrategy strategy = new HardGameStrategy();
+            int move = geometry.getCell(strategy.getBestMove(board, side).getElement());
+            canonicalMoves.set(geometry.getSymmetricCell(symmetry, move));
+            for(int mask = strategy.getBestMoveMask(); mask != 0; mask &= mask - 1)
+                canonicalMoves.set(geometry.getSymmetricCell(symmetry, Integer.numberOfTrailingZeros(mask)));
+            return canonicalMoves;
+        }
+        BoardUtilWithAILogic boardUtil = new BoardUtilWithAILogic(geometry);
+        for(int cell = 0; cell < geometry.getCellCount(); cell++) {
+            int canonicalCell = geometry.getSymmetricCell(symmetry, cell);
+            boardUtil.updateBoardValue(geometry.getRowIndex(canonicalCell), geometry.getColIndex(canonicalCell),
+                    board.getChar(cell));
+        }
+        ComputerStrategy strategy = factory.getStrategy(level);
+        long seed = GameSeeds.getGameSeed(GameSeeds.getMasterSeed(), board.getSymmetricHash(symmetry));
+        strategy.setRandom(new SplittableRandom(seed));
+        GameRound round = new GameRound(boardUtil, RoundType.MACHINE_ROUND, strategy);
+        canonicalMoves.set(geometry.getCell(strategy.chooseMove(round, BoardUtil.CHARS_ALLOWED[side])));
+        return canonicalMoves;
+    }
+
+    // The first cell of the moves once they are mapped through the symmetry
+    private static int getFirstCell(BoardGeometry geometry, int symmetry, BitSet moves) {
+        int firstCell = -1;
+        for(int cell = moves.nextSetBit(0); cell >= 0; cell = moves.nextSetBit(cell + 1)) {
+            int symmetricCell = geometry.getSymmetricCell(symmetry, cell);
+            if(firstCell == -1 || symmetricCell < firstCell)
+                firstCell = symmetricCell;
+        }
+        return firstCell;
+    }
+
+    private static GameStatus getStatus(BitBoard board) {
+        int winningSide = board.getWinningSide();
+        if(winningSide != BoardUtil.EMPTY_SPACE_INDEX)
+            return winningSide == BoardUtil.X_INDEX ? GameStatus.X_WINS : GameStatus.O_WINS;
+        return board.isFull() ? GameStatus.DRAW : GameStatus.GAME_NOT_FINISHED;
+    }
+
+    private static String toMoveJson(GameLevel level, BoardGeometry geometry, int side, int move, String boardAfter,
+                                     GameStatus status, boolean isCached) {
+        StringBuilder json = new StringBuilder("{\"level\":\"").append(level.getLevel())
+                .append("\",\"side\":\"").append(BoardUtil.CHARS_ALLOWED[side]).append("\",\"move\":");
+        if(move == -1)
+            json.append("null");
+        else {
+            int row = geometry.getRowIndex(move), col = geometry.getColIndex(move);
+            // The coordinates as the console takes them: column from the left, then row from the bottom
+            json.append("{\"row\":").append(row).append(",\"column\":").append(col)
+                    .append(",\"coordinates\":\"").append(col + 1).append(' ').append(geometry.getSize() - row)
+                    .append("\"}");
+        }
+        return json.append(",\"board\":\"").append(boardAfter).append("\",\"status\":\"").append(status.getMessage())
+                .append("\",\"cached\":").append(isCached).append('}').toString();
+    }
+
+    private static String toErrorJson(String message) {
+        return "{\"error\":\"" + message.replace("\\", "\\\\").replace("\"", "\\\"") + "\"}";
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if(rawQuery == null)
+            return query;
+        for(String parameter : rawQuery.split("&")) {
+            int separator = parameter.indexOf('=');
+            if(separator > 0)
+                query.put(URLDecoder.decode(parameter.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static int parseNumber(String input, int defaultValue) {
+        if(input == null)
+            return defaultValue;
+        if(!input.matches("\\d{1,2}"))
+            throw new IllegalArgumentException("Not a number: " + input);
+        return Integer.parseInt(input);
+    }
+
+    private static void send(HttpExchange exchange, int statusCode, String contentType, String body)
+            throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+        try(OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package tictactoe;
+
+import java.util.Arrays;
+
+// Bit masks per side, with per-line mark counts and Zobrist hashes in all 8 orientations
+class BitBoard implements BoardView {
+    private final BoardGeometry geometry;
+    private final long[][] words;
+    private final int[][] lineCounts;
+    private final int[] completeLineCounts;
+    private final long[] symmetricHashes;
+    private int stoneCount;
+
+    public BitBoard() {
+        this(BoardGeometry.STANDARD);
+    }
+
+    public BitBoard(BoardGeometry geometry) {
+        int wordCount = (geometry.getCellCount() + Long.SIZE - 1) / Long.SIZE;
+        this.geometry = geometry;
+        this.words = new long[][]{null, new long[wordCount], new long[wordCount]};
+        this.lineCounts = new int[][]{null, new int[geometry.getLineCount()], new int[geometry.getLineCount()]};
+        this.completeLineCounts = new int[3];
+        this.symmetricHashes = new long[BoardGeometry.SYMMETRY_COUNT];
+    }
+
+    public BitBoard(BitBoard bitBoard) {
+        this.geometry = bitBoard.geometry;
+        this.words = new long[][]{null, bitBoard.words[1].clone(), bitBoard.words[2].clone()};
+        this.lineCounts = new int[][]{null, bitBoard.lineCounts[1].clone(), bitBoard.lineCounts[2].clone()};
+        this.completeLineCounts = bitBoard.completeLineCounts.clone();
+        this.symmetricHashes = bitBoard.symmetricHashes.clone();
+        this.stoneCount = bitBoard.stoneCount;
+    }
+
+    public void copyFrom(BitBoard bitBoard) {
+        for(int side = BoardUtil.X_INDEX; side <= BoardUtil.O_INDEX; side++) {
+            System.arraycopy(bitBoard.words[side], 0, words[side], 0, words[side].length);
+            System.arraycopy(bitBoard.lineCounts[side], 0, lineCounts[side], 0, lineCounts[side].length);
+        }
+        System.arraycopy(bitBoard.completeLineCounts, 0, completeLineCounts, 0, completeLineCounts.length);
+        System.arraycopy(bitBoard.symmetricHashes, 0, symmetricHashes, 0, symmetricHashes.length);
+        this.stoneCount = bitBoard.stoneCount;
+    }
+
+    public static int getSide(char c) {
+        switch(c) {
+            case 'X':
+                return BoardUtil.X_INDEX;
+            case 'O':
+                return BoardUtil.O_INDEX;
+        }
+        return BoardUtil.EMPTY_SPACE_INDEX;
+    }
+
+    public static int getOtherSide(int side) {
+        return side == BoardUtil.X_INDEX ? BoardUtil.O_INDEX : BoardUtil.X_INDEX;
+    }
+
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    public long getWord(int side, int wordIndex) {
+        return words[side][wordIndex];
+    }
+
+    public int getStoneCount() {
+        return stoneCount;
+    }
+
+    public boolean isFull() {
+        return stoneCount == geometry.getCellCount();
+    }
+
+    public boolean isEmpty(int cell) {
+        return ((words[BoardUtil.X_INDEX][cell >>> 6] | words[BoardUtil.O_INDEX][cell >>> 6]) & 1L << cell) == 0;
+    }
+
+    public int getSide(int cell) {
+        long bit = 1L << cell;
+        if((words[BoardUtil.X_INDEX][cell >>> 6] & bit) != 0)
+            return BoardUtil.X_INDEX;
+        if((words[BoardUtil.O_INDEX][cell >>> 6] & bit) != 0)
+            return BoardUtil.O_INDEX;
+        return BoardUtil.EMPTY_SPACE_INDEX;
+    }
+
+    public char getChar(int cell) {
+        return BoardUtil.CHARS_ALLOWED[getSide(cell)];
+    }
+
+    public void setSide(int cell, int side) {
+        int currentSide = getSide(cell);
+        if(currentSide == side)
+            return;
+        if(currentSide != BoardUtil.EMPTY_SPACE_INDEX)
+            clear(cell);
+        if(side != BoardUtil.EMPTY_SPACE_INDEX)
+            place(cell, side);
+    }
+
+    // The cell must be empty
+    public void place(int cell, int side) {
+        words[side][cell >>> 6] |= 1L << cell;
+        updateLines(cell, side, 1);
+        stoneCount++;
+    }
+
+    // The cell must be occupied
+    public void clear(int cell) {
+        int side = getSide(cell);
+        words[side][cell >>> 6] &= ~(1L << cell);
+        updateLines(cell, side, -1);
+        stoneCount--;
+    }
+
+    private void updateLines(int cell, int side, int delta) {
+        int winLength = geometry.getWinLength();
+        int[] sideLineCounts = lineCounts[side];
+        for(int line : geometry.getCellLines(cell)) {
+            if(sideLineCounts[line] == winLength)
+                completeLineCounts[side]--;
+            sideLineCounts[line] += delta;
+            if(sideLineCounts[line] == winLength)
+                completeLineCounts[side]++;
+        }
+        long[] zobristKeys = geometry.getSymmetricZobristKeys(side);
+        int offset = cell * BoardGeometry.SYMMETRY_COUNT;
+        for(int symmetry = 0; symmetry < BoardGeometry.SYMMETRY_COUNT; symmetry++)
+            symmetricHashes[symmetry] ^= zobristKeys[offset + symmetry];
+    }
+
+    public int getLineCount(int side, int line) {
+        return lineCounts[side][line];
+    }
+
+    public long getEmptyCells(int wordIndex) {
+        return ~(words[BoardUtil.X_INDEX][wordIndex] | words[BoardUtil.O_INDEX][wordIndex]) & geometry.getCellMask(wordIndex);
+    }
+
+    // A line one mark short of a win has exactly one cell left to fill
+    public void findWinningCells(int side, long[] cells) {
+        int[] sideLineCounts = lineCounts[side];
+        int count = geometry.getWinLength() - 1;
+        Arrays.fill(cells, 0);
+        for(int line = 0; line < sideLineCounts.length; line++) {
+            if(sideLineCounts[line] != count)
+                continue;
+            long[] lineMask = geometry.getLineMask(line);
+            for(int wordIndex = 0; wordIndex < cells.length; wordIndex++)
+                cells[wordIndex] |= lineMask[wordIndex];
+        }
+        for(int wordIndex = 0; wordIndex < cells.length; wordIndex++)
+            cells[wordIndex] &= getEmptyCells(wordIndex);
+    }
+
+    public boolean isWin(int side) {
+        return completeLineCounts[side] > 0;
+    }
+
+    public boolean isWinThrough(int cell, int side) {
+        return hasLineThrough(cell, side, geometry.getWinLength());
+    }
+
+    // Whether side's mark on the empty cell completes a line
+    public boolean isWinningMove(int cell, int side) {
+        return hasLineThrough(cell, side, geometry.getWinLength() - 1);
+    }
+
+    private boolean hasLineThrough(int cell, int side, int count) {
+        int[] sideLineCounts = lineCounts[side];
+        for(int line : geometry.getCellLines(cell)) {
+            if(sideLineCounts[line] == count)
+                return true;
+        }
+        return false;
+    }
+
+    // Only a hand-filled board can have both; then the first line in line order decides
+    public int getWinningSide() {
+        boolean isXWin = isWin(BoardUtil.X_INDEX), isOWin = isWin(BoardUtil.O_INDEX);
+        if(isXWin != isOWin)
+            return isXWin ? BoardUtil.X_INDEX : BoardUtil.O_INDEX;
+        if(!isXWin)
+            return BoardUtil.EMPTY_SPACE_INDEX;
+        int winLength = geometry.getWinLength();
+        for(int line = 0; line < geometry.getLineCount(); line++) {
+            if(lineCounts[BoardUtil.X_INDEX][line] == winLength)
+                return BoardUtil.X_INDEX;
+            if(lineCounts[BoardUtil.O_INDEX][line] == winLength)
+                return BoardUtil.O_INDEX;
+        }
+        return BoardUtil.EMPTY_SPACE_INDEX;
+    }
+
+    public long getSymmetricHash(int symmetry) {
+        return symmetricHashes[symmetry];
+    }
+
+    public int getCanonicalSymmetry() {
+        int canonicalSymmetry = 0;
+        for(int symmetry = 1; symmetry < BoardGeometry.SYMMETRY_COUNT; symmetry++) {
+            if(symmetricHashes[symmetry] < symmetricHashes[canonicalSymmetry])
+                canonicalSymmetry = symmetry;
+        }
+        return canonicalSymmetry;
+    }
+}
@@ -0,0 +1,132 @@
+package tictactoe;
+
+import java.io.PrintStream;
+
+class BlunderStats {
+    // Player 0 is a user, player i + 1 is level i, the way GameRecord writes them
+    private static final int PLAYER_COUNT = GameLevel.values().length + 1;
+
+    private final long[] gameCounts = new long[PLAYER_COUNT];
+    private final long[] gamesWithBlunderCounts = new long[PLAYER_COUNT];
+    private final long[] moveCounts = new long[PLAYER_COUNT];
+    private final long[] unscoredMoveCounts = new long[PLAYER_COUNT];
+    private final long[] blunderCounts = new long[PLAYER_COUNT];
+    private final long[] losingBlunderCounts = new long[PLAYER_COUNT];
+    private final long[] resultCounts = new long[GameStatus.values().length];
+    private long invalidCount;
+    private long unreadableSegmentCount;
+    private long elapsedNanos;
+
+    public void addGame(GameRecord record, GameAnalysis analysis) {
+        if(!analysis.isValid()) {
+            invalidCount++;
+            return;
+        }
+        resultCounts[record.getResult().ordinal()]++;
+        for(int player = 0; player < 2; player++) {
+            int index = getPlayerIndex(record.getLevel(player));
+            gameCounts[index]++;
+            moveCounts[index] += analysis.getMoveCount(player);
+            unscoredMoveCounts[index] += analysis.getUnscoredMoveCount(player);
+            blunderCounts[index] += analysis.getBlunderCount(player);
+            losingBlunderCounts[index] += analysis.getLosingBlunderCount(player);
+            if(analysis.getBlunderCount(player) > 0)
+                gamesWithBlunderCounts[index]++;
+        }
+    }
+
+    public void addUnreadableSegment() {
+        unreadableSegmentCount++;
+    }
+
+    public void add(BlunderStats stats) {
+        for(int i = 0; i < PLAYER_COUNT; i++) {
+            gameCounts[i] += stats.gameCounts[i];
+            gamesWithBlunderCounts[i] += stats.gamesWithBlunderCounts[i];
+            moveCounts[i] += stats.moveCounts[i];
+            unscoredMoveCounts[i] += stats.unscoredMoveCounts[i];
+            blunderCounts[i] += stats.blunderCounts[i];
+            losingBlunderCounts[i] += stats.losingBlunderCounts[i];
+        }
+        for(int i = 0; i < resultCounts.length; i++)
+            resultCounts[i] += stats.resultCounts[i];
+        invalidCount += stats.invalidCount;
+        unreadableSegmentCount += stats.unreadableSegmentCount;
+    }
+
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGameCount() {
+        long gameCount = 0;
+        for(long resultCount : resultCounts)
+            gameCount += resultCount;
+        return gameCount;
+    }
+
+    public long getInvalidCount() {
+        return invalidCount;
+    }
+
+    public long getResultCount(GameStatus result) {
+        return resultCounts[result.ordinal()];
+    }
+
+    // A null level means users
+    public long getMoveCount(GameLevel level) {
+        return moveCounts[getPlayerIndex(level)];
+    }
+
+    // Moves whose search ran out before it was solved, not in the move count
+    public long getUnscoredMoveCount(GameLevel level) {
+        return unscoredMoveCounts[getPlayerIndex(level)];
+    }
+
+    public long getBlunderCount(GameLevel level) {
+        return blunderCounts[getPlayerIndex(level)];
+    }
+
+    public long getLosingBlunderCount(GameLevel level) {
+        return losingBlunderCounts[getPlayerIndex(level)];
+    }
+
+    public long getGameCount(GameLevel level) {
+        return gameCounts[getPlayerIndex(level)];
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : (getGameCount() + invalidCount) * 1e9 / elapsedNanos;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("Games: %d, X wins: %d, O wins: %d, draws: %d%n", getGameCount(),
+                getResultCount(GameStatus.X_WINS), getResultCount(GameStatus.O_WINS), getResultCount(GameStatus.DRAW));
+        if(invalidCount > 0 || unreadableSegmentCount > 0)
+            out.printf("Games that do not replay: %d, unreadable segments: %d%n", invalidCount, unreadableSegmentCount);
+        long unscoredMoveCount = 0;
+        for(long count : unscoredMoveCounts)
+            unscoredMoveCount += count;
+        if(unscoredMoveCount > 0)
+            out.printf("Moves left unscored, the search ran out: %d%n", unscoredMoveCount);
+        out.printf("Analysed in %d ms, %.0f games/s%n", elapsedNanos / 1_000_000, getGamesPerSecond());
+        out.printf("%-8s %10s %12s %10s %10s %8s %14s%n", "player", "games", "moves", "blunders", "losing",
+                "per move", "games with one");
+        for(int i = 0; i < PLAYER_COUNT; i++) {
+            if(gameCounts[i] == 0)
+                continue;
+            out.printf("%-8s %10d %12d %10d %10d %7.2f%% %13.2f%%%n", getPlayerName(i == 0 ? null : GameLevel.values()[i - 1]),
+                    gameCounts[i], moveCounts[i], blunderCounts[i], losingBlunderCounts[i],
+                    100.0 * blunderCounts[i] / Math.max(1, moveCounts[i]),
+                    100.0 * gamesWithBlunderCounts[i] / gameCounts[i]);
+        }
+    }
+
+    static String getPlayerName(GameLevel level) {
+        return level == null ? "user" : level.getLevel();
+    }
+
+    private static int getPlayerIndex(GameLevel level) {
+        return level == null ? 0 : level.ordinal() + 1;
+    }
+}
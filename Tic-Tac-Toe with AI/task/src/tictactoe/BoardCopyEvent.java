@@ -0,0 +1,21 @@
+package tictactoe;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("tictactoe.BoardCopy")
+@Label("Board Copy")
+@Category(FlightEvents.CATEGORY)
+@Description("A BoardUtil copied with its verifier")
+@Enabled(false)
+class BoardCopyEvent extends Event {
+    @Label("Board Size")
+    int boardSize;
+
+    @Label("Stones")
+    int stoneCount;
+}
@@ -0,0 +1,251 @@
+package tictactoe;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+// One shared instance per size and win length; a line is any winLength window of a row, column or diagonal
+class BoardGeometry {
+    public static final int DEFAULT_SIZE = 3;
+    public static final int DEFAULT_WIN_LENGTH = 3;
+    public static final int MIN_SIZE = 3;
+    public static final int MAX_SIZE = 15;
+    // The 4 rotations followed by the 4 reflections of the board
+    public static final int SYMMETRY_COUNT = 8;
+    private static final Map<Integer, BoardGeometry> GEOMETRIES = new ConcurrentHashMap<>();
+    public static final BoardGeometry STANDARD = of(DEFAULT_SIZE, DEFAULT_WIN_LENGTH);
+
+    private final int size;
+    private final int winLength;
+    private final int cellCount;
+    // Rows and columns are interleaved (row 0, column 0, row 1, ...) and followed by the diagonals
+    private final int[][] lineCells;
+    private final int[][] cellLines;
+    // The cells of each line as bits, one long per 64 cells
+    private final long[][] lineMasks;
+    // The bits of the cells of the board in each word
+    private final long[] cellMasks;
+    // Cells crossed by more lines come first, i.e. center, then corners, then edges on 3x3
+    private final int[] orderedCells;
+    private final int[][] symmetricCells;
+    private final int[] inverseSymmetries;
+    // Zobrist keys per side, laid out as [cell * SYMMETRY_COUNT + symmetry]
+    private final long[][] symmetricZobristKeys;
+    private final long[] sideKeys;
+
+    private BoardGeometry(int size, int winLength) {
+        this.size = size;
+        this.winLength = winLength;
+        this.cellCount = size * size;
+        this.lineCells = createLineCells();
+        this.cellLines = createCellLines();
+        this.lineMasks = createLineMasks();
+        this.cellMasks = createCellMasks();
+        this.orderedCells = createOrderedCells();
+        this.symmetricCells = createSymmetricCells();
+        this.inverseSymmetries = createInverseSymmetries();
+        SplittableRandom random = new SplittableRandom(31L * size + winLength);
+        this.symmetricZobristKeys = new long[][]{null, createZobristKeys(random), createZobristKeys(random)};
+        this.sideKeys = new long[]{0, 0, random.nextLong()};
+    }
+
+    public static boolean isValid(int size, int winLength) {
+        return size >= MIN_SIZE && size <= MAX_SIZE && winLength >= MIN_SIZE && winLength <= size;
+    }
+
+    public static BoardGeometry of(int size, int winLength) {
+        if(!isValid(size, winLength))
+            throw new IllegalArgumentException("Not a valid board: " + size + "x" + size + ", " + winLength + " in a row");
+        return GEOMETRIES.computeIfAbsent(size * (MAX_SIZE + 1) + winLength, key -> new BoardGeometry(size, winLength));
+    }
+
+    private int[][] createLineCells() {
+        List<int[]> lines = new ArrayList<>();
+        for(int i = 0; i < size; i++) {
+            for(int start = 0; start + winLength <= size; start++) {
+                lines.add(createLine(i, start, 0, 1));
+                lines.add(createLine(start, i, 1, 0));
+            }
+        }
+        for(int i = 0; i + winLength <= size; i++) {
+            for(int j = 0; j + winLength <= size; j++)
+                lines.add(createLine(i, j, 1, 1));
+        }
+        for(int i = 0; i + winLength <= size; i++) {
+            for(int j = winLength - 1; j < size; j++)
+                lines.add(createLine(i, j, 1, -1));
+        }
+        return lines.toArray(new int[0][]);
+    }
+
+    private int[] createLine(int rowIndex, int colIndex, int rowStep, int colStep) {
+        int[] line = new int[winLength];
+        for(int i = 0; i < winLength; i++)
+            line[i] = getCell(rowIndex + i * rowStep, colIndex + i * colStep);
+        return line;
+    }
+
+    private int[][] createCellLines() {
+        List<List<Integer>> linesPerCell = new ArrayList<>();
+        for(int cell = 0; cell < cellCount; cell++)
+            linesPerCell.add(new ArrayList<>());
+        for(int line = 0; line < lineCells.length; line++) {
+            for(int cell : lineCells[line])
+                linesPerCell.get(cell).add(line);
+        }
+        int[][] cellLines = new int[cellCount][];
+        for(int cell = 0; cell < cellCount; cell++)
+            cellLines[cell] = linesPerCell.get(cell).stream().mapToInt(Integer::intValue).toArray();
+        return cellLines;
+    }
+
+    private long[][] createLineMasks() {
+        long[][] lineMasks = new long[lineCells.length][getWordCount()];
+        for(int line = 0; line < lineCells.length; line++) {
+            for(int cell : lineCells[line])
+                lineMasks[line][cell / Long.SIZE] |= 1L << cell;
+        }
+        return lineMasks;
+    }
+
+    private long[] createCellMasks() {
+        long[] cellMasks = new long[getWordCount()];
+        for(int cell = 0; cell < cellCount; cell++)
+            cellMasks[cell / Long.SIZE] |= 1L << cell;
+        return cellMasks;
+    }
+
+    private int[] createOrderedCells() {
+        return IntStream.range(0, cellCount)
+                .boxed()
+                .sorted(Comparator.comparingInt(cell -> -cellLines[cell].length))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private int[][] createSymmetricCells() {
+        int last = size - 1;
+        int[][] symmetricCells = new int[SYMMETRY_COUNT][cellCount];
+        for(int cell = 0; cell < cellCount; cell++) {
+            int i = getRowIndex(cell), j = getColIndex(cell);
+            symmetricCells[0][cell] = getCell(i, j);
+            symmetricCells[1][cell] = getCell(j, last - i);
+            symmetricCells[2][cell] = getCell(last - i, last - j);
+            symmetricCells[3][cell] = getCell(last - j, i);
+            symmetricCells[4][cell] = getCell(i, last - j);
+            symmetricCells[5][cell] = getCell(last - i, j);
+            symmetricCells[6][cell] = getCell(j, i);
+            symmetricCells[7][cell] = getCell(last - j, last - i);
+        }
+        return symmetricCells;
+    }
+
+    private int[] createInverseSymmetries() {
+        int[] inverseSymmetries = new int[SYMMETRY_COUNT];
+        for(int symmetry = 0; symmetry < SYMMETRY_COUNT; symmetry++) {
+            for(int inverse = 0; inverse < SYMMETRY_COUNT; inverse++) {
+                boolean isInverse = true;
+                for(int cell = 0; cell < cellCount && isInverse; cell++)
+                    isInverse = symmetricCells[inverse][symmetricCells[symmetry][cell]] == cell;
+                if(isInverse)
+                    inverseSymmetries[symmetry] = inverse;
+            }
+        }
+        return inverseSymmetries;
+    }
+
+    private long[] createZobristKeys(SplittableRandom random) {
+        long[] zobristKeys = new long[cellCount];
+        for(int cell = 0; cell < cellCount; cell++)
+            zobristKeys[cell] = random.nextLong();
+        long[] symmetricZobristKeys = new long[cellCount * SYMMETRY_COUNT];
+        for(int cell = 0; cell < cellCount; cell++) {
+            for(int symmetry = 0; symmetry < SYMMETRY_COUNT; symmetry++)
+                symmetricZobristKeys[cell * SYMMETRY_COUNT + symmetry] = zobristKeys[symmetricCells[symmetry][cell]];
+        }
+        return symmetricZobristKeys;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getWinLength() {
+        return winLength;
+    }
+
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    public int getLineCount() {
+        return lineCells.length;
+    }
+
+    public int getWordCount() {
+        return (cellCount + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    public long[] getLineMask(int line) {
+        return lineMasks[line];
+    }
+
+    public long getCellMask(int wordIndex) {
+        return cellMasks[wordIndex];
+    }
+
+    public int[] getLineCells(int line) {
+        return lineCells[line];
+    }
+
+    public int[] getCellLines(int cell) {
+        return cellLines[cell];
+    }
+
+    public int[] getOrderedCells() {
+        return orderedCells;
+    }
+
+    public int getCell(int rowIndex, int colIndex) {
+        return rowIndex * size + colIndex;
+    }
+
+    public int getCell(Element element) {
+        return getCell(element.getRowIndex(), element.getColIndex());
+    }
+
+    public int getRowIndex(int cell) {
+        return cell / size;
+    }
+
+    public int getColIndex(int cell) {
+        return cell % size;
+    }
+
+    public int getSymmetricCell(int symmetry, int cell) {
+        return symmetricCells[symmetry][cell];
+    }
+
+    public int getInverseSymmetry(int symmetry) {
+        return inverseSymmetries[symmetry];
+    }
+
+    public int getSymmetricMask(int symmetry, int mask) {
+        int symmetricMask = 0;
+        for(; mask != 0; mask &= mask - 1)
+            symmetricMask |= 1 << symmetricCells[symmetry][Integer.numberOfTrailingZeros(mask)];
+        return symmetricMask;
+    }
+
+    long[] getSymmetricZobristKeys(int side) {
+        return symmetricZobristKeys[side];
+    }
+
+    public long getSideKey(int side) {
+        return sideKeys[side];
+    }
+}
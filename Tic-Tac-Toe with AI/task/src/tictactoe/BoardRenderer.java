@@ -0,0 +1,5 @@
+package tictactoe;
+
+interface BoardRenderer {
+    public void render(BoardUtil boardUtil);
+}
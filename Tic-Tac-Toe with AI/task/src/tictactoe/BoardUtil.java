@@ -0,0 +1,188 @@
+package tictactoe;
+
+import java.util.List;
+import java.util.Scanner;
+
+class BoardUtil {
+    public static final char[] CHARS_ALLOWED = {'_', 'X', 'O'};
+    public static final int EMPTY_SPACE_INDEX = 0;
+    public static final int X_INDEX = 1;
+    public static final int O_INDEX = 2;
+
+    protected BoardGeometry geometry;
+    protected BitBoard board;
+    protected int[] boardStatistics = new int[]{0, 0, 0};
+    protected EmptyCellPool emptySpaces;
+    protected BoardVerifier boardVerifier;
+    protected TicTacToeGame game;
+
+    public BoardUtil() {
+        this(BoardGeometry.STANDARD);
+    }
+
+    public BoardUtil(BoardGeometry geometry) {
+        this.geometry = geometry;
+        this.board = new BitBoard(geometry);
+        this.emptySpaces = new EmptyCellPool(geometry);
+    }
+
+    public BoardUtil(BoardUtil boardUtil) {
+        BoardCopyEvent event = new BoardCopyEvent();
+        event.begin();
+        this.geometry = boardUtil.getGeometry();
+        this.board = new BitBoard(boardUtil.getBitBoard());
+        this.boardStatistics = boardUtil.getCopyOfBoardStatistics();
+        this.emptySpaces = new EmptyCellPool(boardUtil.emptySpaces);
+        this.boardVerifier = new BoardVerifier(this);
+        if(event.shouldCommit()) {
+            event.boardSize = geometry.getSize();
+            event.stoneCount = board.getStoneCount();
+            event.commit();
+        }
+    }
+
+    public BoardUtil(TicTacToeGame game, Scanner scanner) {
+        this(game.getGeometry());
+        this.game = game;
+        this.boardVerifier = new BoardVerifier(this);
+        initEmptyBoard();
+    }
+
+    private int[] getCopyOfBoardStatistics() {
+        int[] copyOfBoardStatistics = new int[boardStatistics.length];
+        for(int i = 0; i < boardStatistics.length; i++) {
+            copyOfBoardStatistics[i] = boardStatistics[i];
+        }
+        return copyOfBoardStatistics;
+    }
+
+    public void initEmptyBoard() {
+        for(int i = 0; i < geometry.getSize(); i++) {
+            for(int j = 0; j < geometry.getSize(); j++) {
+                updateBoardValue(i, j, CHARS_ALLOWED[EMPTY_SPACE_INDEX]);
+            }
+        }
+    }
+
+    // Read-only, in board order
+    public List<Element> getEmptySpaces() {
+        return this.emptySpaces;
+    }
+
+    public EmptyCellPool getEmptyCellPool() {
+        return this.emptySpaces;
+    }
+
+
+    public int[] getBoardStatistics() {
+        return this.boardStatistics;
+    }
+
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    public BitBoard getBitBoard() {
+        return board;
+    }
+
+    public BoardView getBoardView() {
+        return board;
+    }
+
+    public char[][] getCopyOfBoard() {
+        int size = geometry.getSize();
+        char[][] copyOfBoard = new char[size][size];
+        for(int i = 0; i < size; i++) {
+            for(int j = 0; j < size; j++) {
+                copyOfBoard[i][j] = board.getChar(geometry.getCell(i, j));
+            }
+        }
+        return copyOfBoard;
+    }
+
+    public void updateBoardValue(int rowIndex, int colIndex, char c) {
+        board.setSide(geometry.getCell(rowIndex, colIndex), BitBoard.getSide(c));
+        updateBoardStatistics(Element.createElement(rowIndex, colIndex), c);
+    }
+
+    public void updateBoardValue(Element element, char value) {
+        updateBoardValue(element.getRowIndex(), element.getColIndex(), value);
+    }
+
+    public void updateBoardStatistics(Element element, char c) {
+        switch(c) {
+            case 'X':
+                boardStatistics[X_INDEX]++;
+                removeFromEmptySpacePool(element);
+                break;
+            case 'O':
+                boardStatistics[O_INDEX]++;
+                removeFromEmptySpacePool(element);
+                break;
+            case '_':
+                addToEmptySpacesPool(element);
+        }
+    }
+
+    public void addToEmptySpacesPool(Element element) {
+        if(emptySpaces.addCell(geometry.getCell(element)))
+            boardStatistics[EMPTY_SPACE_INDEX]++;
+    }
+
+    public void removeFromEmptySpacePool(Element element) {
+        if(emptySpaces.removeCell(geometry.getCell(element)))
+            boardStatistics[EMPTY_SPACE_INDEX]--;
+    }
+
+    public void displayBoard() {
+        BoardRenderer renderer = game != null ? game.getRenderer() : new BufferedBoardRenderer();
+        renderer.render(this);
+    }
+
+    public void displayBoardStatistics() {
+        for( int i = 0; i <= O_INDEX; i++ ) {
+            System.out.print(boardStatistics[i]+" ");
+        }
+        System.out.println();
+        emptySpaces.forEach(s -> System.out.println("("+s.getRowIndex()+", "+s.getColIndex()+")"));
+    }
+
+    public void updateGameStatus() {
+        GameRound round = game.getRound();
+        if(round != null)
+            game.setGameStatus(boardVerifier.checkRoundInput(round));
+    }
+
+    public GameStatus getGameStatus(GameRound round) {
+        return boardVerifier.checkRoundInput(round);
+    }
+
+    public GameStatus getGameStatus(Element lastMove) {
+        return boardVerifier.checkMove(lastMove);
+    }
+    public TicTacToeGame getGame() {
+        return game;
+    }
+
+    public BoardVerifier getBoardVerifier() {
+        return this.boardVerifier;
+    }
+
+    public void updateBoard(Element element, char value, RoundType roundType) {
+        updateBoardValue(element, value);
+    }
+
+    // undoMove takes the move back exactly, so searches can run in place
+    public void applyMove(Element element, char value) {
+        updateBoard(element, value, RoundType.MACHINE_ROUND);
+    }
+
+    public void undoMove(Element element) {
+        int side = board.getSide(geometry.getCell(element));
+        if(side == EMPTY_SPACE_INDEX)
+            return;
+        boardStatistics[side]--;
+        updateBoard(element, CHARS_ALLOWED[EMPTY_SPACE_INDEX], RoundType.MACHINE_ROUND);
+    }
+}
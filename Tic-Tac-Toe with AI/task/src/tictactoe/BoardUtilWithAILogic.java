@@ -0,0 +1,27 @@
+package tictactoe;
+
+import java.util.Scanner;
+
+class BoardUtilWithAILogic extends BoardUtil {
+
+    public BoardUtilWithAILogic() {
+        this.boardVerifier = new BoardVerifierWithAILogic(this);
+    }
+
+    public BoardUtilWithAILogic(BoardGeometry geometry) {
+        super(geometry);
+        this.boardVerifier = new BoardVerifierWithAILogic(this);
+    }
+
+    public BoardUtilWithAILogic(BoardUtilWithAILogic boardUtilWithAILogic) {
+        super(boardUtilWithAILogic);
+    }
+
+    public BoardUtilWithAILogic(TicTacToeGame game, Scanner scanner) {
+        super(game.getGeometry());
+        this.game = game;
+        this.boardVerifier = new BoardVerifierWithAILogic(this);
+        initEmptyBoard();
+    }
+
+}
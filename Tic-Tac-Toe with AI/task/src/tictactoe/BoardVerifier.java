@@ -0,0 +1,101 @@
+package tictactoe;
+
+class BoardVerifier {
+    protected BoardUtil boardUtil;
+    protected Element validInput;
+
+    public BoardVerifier() {
+
+    }
+
+    public BoardVerifier(BoardUtil boardUtil) {
+        this.boardUtil = boardUtil;
+    }
+
+    protected void displayBoard() {
+        BoardGeometry geometry = boardUtil.getGeometry();
+        BoardView board = getBoard();
+        StringBuilder frame = new StringBuilder();
+        for(int i = 0; i < geometry.getSize(); i++) {
+            for(int j = 0; j < geometry.getSize(); j++) {
+                frame.append(board.getChar(geometry.getCell(i, j))).append(' ');
+            }
+            frame.append(System.lineSeparator());
+        }
+        System.out.print(frame);
+    }
+
+    protected ElementError isInputValid(String inputLine) {
+        String[] inputs = inputLine.split("\\s+");
+        if(inputs.length != 2)
+            return ElementError.NOT_TWO_INPUTS;
+        for(int i = 0; i < inputs.length; i++) {
+            for(char c: inputs[i].toCharArray()) {
+                if(!Character.isDigit(c))
+                    return ElementError.NOT_NUMBER;
+            }
+        }
+        int size = boardUtil.getGeometry().getSize();
+        int index1 = Integer.parseInt(inputs[0]);
+        int index2 = Integer.parseInt(inputs[1]);
+        if(index1 <1 || index1>size || index2<1 || index2>size)
+            return ElementError.NOT_IN_RANGE;
+        return isCellOccupied(Element.getElement(index1, index2, size));
+    }
+
+    public ElementError isCellOccupied(Element element) {
+        if(getBoard().getSide(boardUtil.getGeometry().getCell(element)) != BoardUtil.EMPTY_SPACE_INDEX)
+            return ElementError.CELL_OCCUPIED;
+        else {
+            validInput = element;
+            return null;
+        }
+    }
+
+    public Element getValidInput() {
+        return this.validInput;
+    }
+
+    protected BoardView getBoard() {
+        return boardUtil.getBoardView();
+    }
+
+    public void reinitializeBoardVerifier() {
+        validInput = null;
+    }
+
+
+    public GameStatus checkRoundInput(GameRound round) {
+        return checkMove(round.getInput());
+    }
+
+    // Only the lines through the cell can have been completed
+    public GameStatus checkMove(Element element) {
+        GameStatus status = null;
+        int numEmptySpaces = boardUtil.getBoardStatistics()[BoardUtil.EMPTY_SPACE_INDEX];
+        int cell = boardUtil.getGeometry().getCell(element);
+        BoardView board = getBoard();
+        int winningSide = board.getSide(cell);
+        boolean isThereAWin = winningSide != BoardUtil.EMPTY_SPACE_INDEX && board.isWinThrough(cell, winningSide);
+
+        if(isThereAWin == false) {
+            if(numEmptySpaces > 0)
+                status = GameStatus.GAME_NOT_FINISHED;
+            else if(numEmptySpaces == 0)
+                status = GameStatus.DRAW;
+        } else
+            status = winningSide == BoardUtil.X_INDEX ? GameStatus.X_WINS : GameStatus.O_WINS;
+        return status;
+    }
+
+    public GameStatus getBoardStatus() {
+        switch(getBoard().getWinningSide()) {
+            case BoardUtil.X_INDEX:
+                return GameStatus.X_WINS;
+            case BoardUtil.O_INDEX:
+                return GameStatus.O_WINS;
+        }
+        return boardUtil.getBoardStatistics()[BoardUtil.EMPTY_SPACE_INDEX] > 0 ? GameStatus.GAME_NOT_FINISHED :
+                GameStatus.DRAW;
+    }
+}
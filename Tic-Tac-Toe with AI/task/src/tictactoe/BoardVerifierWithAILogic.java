@@ -0,0 +1,11 @@
+package tictactoe;
+
+class BoardVerifierWithAILogic extends BoardVerifier {
+    public BoardVerifierWithAILogic(BoardUtilWithAILogic boardUtil) {
+        this.boardUtil = boardUtil;
+    }
+
+    public boolean shouldThisElementBeAvoided(Element element, char value) {
+        return getBoard().isWinningMove(boardUtil.getGeometry().getCell(element), BitBoard.getSide(value));
+    }
+}
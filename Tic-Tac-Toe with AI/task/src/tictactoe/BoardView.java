@@ -0,0 +1,31 @@
+package tictactoe;
+
+// The read-only side of a BitBoard
+interface BoardView {
+    BoardGeometry getGeometry();
+
+    int getStoneCount();
+
+    boolean isFull();
+
+    boolean isEmpty(int cell);
+
+    int getSide(int cell);
+
+    char getChar(int cell);
+
+    int getLineCount(int side, int line);
+
+    long getEmptyCells(int wordIndex);
+
+    void findWinningCells(int side, long[] cells);
+
+    boolean isWin(int side);
+
+    boolean isWinThrough(int cell, int side);
+
+    // Whether side's mark on the empty cell completes a line
+    boolean isWinningMove(int cell, int side);
+
+    int getWinningSide();
+}
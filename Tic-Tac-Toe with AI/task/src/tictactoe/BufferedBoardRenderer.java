@@ -0,0 +1,27 @@
+package tictactoe;
+
+class BufferedBoardRenderer implements BoardRenderer {
+    private final StringBuilder frame = new StringBuilder();
+
+    @Override
+    public void render(BoardUtil boardUtil) {
+        frame.setLength(0);
+        appendFrame(boardUtil, frame);
+        System.out.print(frame);
+    }
+
+    public static void appendFrame(BoardUtil boardUtil, StringBuilder frame) {
+        BoardGeometry geometry = boardUtil.getGeometry();
+        BitBoard board = boardUtil.getBitBoard();
+        String border = "-".repeat(2 * geometry.getSize() + 3);
+        frame.append(border).append(System.lineSeparator());
+        for(int i = 0; i < geometry.getSize(); i++) {
+            frame.append("| ");
+            for(int j = 0; j < geometry.getSize(); j++) {
+                frame.append(board.getChar(geometry.getCell(i, j))).append(' ');
+            }
+            frame.append('|').append(System.lineSeparator());
+        }
+        frame.append(border).append(System.lineSeparator());
+    }
+}
@@ -0,0 +1,25 @@
+package tictactoe;
+
+import java.util.SplittableRandom;
+
+interface ComputerStrategy {
+    public static final int RANDOM_SEED = 1000;
+    public Element makeMove(GameRound round, char value);
+    public Element chooseMove(GameRound round, char value);
+    public GameLevel getLevel();
+    public void setRandom(SplittableRandom random);
+
+    // 0 for a strategy that does not search
+    public default long getNodeCount() {
+        return 0;
+    }
+
+    public default int getCompletedDepth() {
+        return 0;
+    }
+
+    public Element playMove(GameRound round, char value);
+
+    // Games call this when they end
+    public void flushMetrics();
+}
@@ -0,0 +1,93 @@
+package tictactoe;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+abstract class ConcreteComputerStrategy implements ComputerStrategy {
+    protected SplittableRandom random = new SplittableRandom(GameSeeds.getMasterSeed());
+    // Moves, nodes and the most nodes of one move since the last flush, and all moves for the sampling
+    private int metricsMoveCount;
+    private long metricsNodeCount;
+    private long metricsMaxNodeCount;
+    private long playedMoveCount;
+    // Winning cell masks per side, kept between moves so that looking for threats allocates nothing
+    private final long[][] winningCells = new long[3][];
+
+    @Override
+    public void setRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public Element makeMove(GameRound round, char value) {
+        System.out.println("Making move level \"" + getLevel().getLevel() + "\"");
+        return playMove(round, value);
+    }
+
+    // Only one move in LATENCY_SAMPLE_INTERVAL is timed
+    @Override
+    public Element playMove(GameRound round, char value) {
+        MoveEvent event = new MoveEvent();
+        event.begin();
+        Element move = EngineMetrics.ENABLED ? chooseCountedMove(round, value) : chooseMove(round, value);
+        if(event.shouldCommit()) {
+            event.level = getLevel().getLevel();
+            event.nodes = getNodeCount();
+            event.depth = getCompletedDepth();
+            event.commit();
+        }
+        return move;
+    }
+
+    private Element chooseCountedMove(GameRound round, char value) {
+        Element move;
+        if(playedMoveCount++ % EngineMetrics.LATENCY_SAMPLE_INTERVAL == 0) {
+            long start = System.nanoTime();
+            move = chooseMove(round, value);
+            EngineMetrics.moveTimed(getLevel(), System.nanoTime() - start);
+        } else
+            move = chooseMove(round, value);
+        long nodeCount = getNodeCount();
+        metricsMoveCount++;
+        metricsNodeCount += nodeCount;
+        metricsMaxNodeCount = Math.max(metricsMaxNodeCount, nodeCount);
+        return move;
+    }
+
+    @Override
+    public void flushMetrics() {
+        if(!EngineMetrics.ENABLED || metricsMoveCount == 0)
+            return;
+        EngineMetrics.movesPlayed(getLevel(), metricsMoveCount, metricsNodeCount, metricsMaxNodeCount);
+        metricsMoveCount = 0;
+        metricsNodeCount = 0;
+        metricsMaxNodeCount = 0;
+    }
+
+    protected char flipCharacter(char value) {
+        char testWithChar = value == BoardUtil.CHARS_ALLOWED[BoardUtil.X_INDEX] ?
+                BoardUtil.CHARS_ALLOWED[BoardUtil.O_INDEX] :
+                BoardUtil.CHARS_ALLOWED[BoardUtil.X_INDEX];
+        return testWithChar;
+
+    }
+
+    protected Element getRandomEmptySpace(List<Element> selectedSpaces) {
+        int rand = random.nextInt(selectedSpaces.size());
+        return selectedSpaces.get(rand);
+    }
+
+    // Reused until the next call for the same side
+    protected long[] getWinningCells(BoardView board, int side) {
+        int wordCount = board.getGeometry().getWordCount();
+        if(winningCells[side] == null || winningCells[side].length != wordCount)
+            winningCells[side] = new long[wordCount];
+        board.findWinningCells(side, winningCells[side]);
+        return winningCells[side];
+    }
+
+    protected static Element getElement(BoardGeometry geometry, int wordIndex, long cells) {
+        int cell = wordIndex * Long.SIZE + Long.numberOfTrailingZeros(cells);
+        return Element.createElement(geometry.getRowIndex(cell), geometry.getColIndex(cell));
+    }
+}
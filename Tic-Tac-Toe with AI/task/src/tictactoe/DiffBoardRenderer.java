@@ -0,0 +1,27 @@
+package tictactoe;
+
+// Prints only the cells that changed after the first board
+class DiffBoardRenderer extends BufferedBoardRenderer {
+    private BitBoard lastBoard;
+
+    @Override
+    public void render(BoardUtil boardUtil) {
+        BitBoard board = boardUtil.getBitBoard();
+        if(lastBoard == null || lastBoard.getGeometry() != board.getGeometry()) {
+            super.render(boardUtil);
+            lastBoard = new BitBoard(board);
+            return;
+        }
+        BoardGeometry geometry = board.getGeometry();
+        StringBuilder changes = new StringBuilder();
+        for(int cell = 0; cell < geometry.getCellCount(); cell++) {
+            if(board.getSide(cell) == lastBoard.getSide(cell))
+                continue;
+            changes.append(geometry.getColIndex(cell) + 1).append(' ')
+                    .append(geometry.getSize() - geometry.getRowIndex(cell)).append(": ")
+                    .append(board.getChar(cell)).append(System.lineSeparator());
+            lastBoard.setSide(cell, board.getSide(cell));
+        }
+        System.out.print(changes);
+    }
+}
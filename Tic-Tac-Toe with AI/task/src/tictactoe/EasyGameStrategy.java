@@ -0,0 +1,36 @@
+package tictactoe;
+
+class EasyGameStrategy extends ConcreteComputerStrategy {
+
+    @Override
+    public GameLevel getLevel() {
+        return GameLevel.EASY;
+    }
+
+    // Picked in board order, as the old list was, so the random choice is unchanged
+    @Override
+    public Element chooseMove(GameRound round, char value) {
+        BoardUtil boardUtil = round.getBoardUtil();
+        BoardView board = boardUtil.getBoardView();
+        BoardGeometry geometry = board.getGeometry();
+        int side = BitBoard.getSide(value);
+        long[] winningCells = getWinningCells(board, side);
+        long[] otherWinningCells = getWinningCells(board, BitBoard.getOtherSide(side));
+        int safeCount = 0;
+        for(int wordIndex = 0; wordIndex < winningCells.length; wordIndex++)
+            safeCount += Long.bitCount(board.getEmptyCells(wordIndex) & ~(winningCells[wordIndex] | otherWinningCells[wordIndex]));
+        if(safeCount == 0)
+            return getRandomEmptySpace(boardUtil.getEmptySpaces());
+        int index = random.nextInt(safeCount);
+        for(int wordIndex = 0; ; wordIndex++) {
+            long safeCells = board.getEmptyCells(wordIndex) & ~(winningCells[wordIndex] | otherWinningCells[wordIndex]);
+            int wordSafeCount = Long.bitCount(safeCells);
+            if(index < wordSafeCount) {
+                for(; index > 0; index--)
+                    safeCells &= safeCells - 1;
+                return getElement(geometry, wordIndex, safeCells);
+            }
+            index -= wordSafeCount;
+        }
+    }
+}
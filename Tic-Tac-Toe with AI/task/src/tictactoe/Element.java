@@ -0,0 +1,43 @@
+package tictactoe;
+
+// One shared instance per coordinate
+class Element {
+    private static final Element[][] ELEMENTS = createElements();
+
+    private final int rowIndex;
+    private final int colIndex;
+
+    private Element(int rowIndex, int colIndex) {
+        this.rowIndex = rowIndex;
+        this.colIndex = colIndex;
+    }
+
+    private static Element[][] createElements() {
+        Element[][] elements = new Element[BoardGeometry.MAX_SIZE][BoardGeometry.MAX_SIZE];
+        for(int i = 0; i < BoardGeometry.MAX_SIZE; i++) {
+            for(int j = 0; j < BoardGeometry.MAX_SIZE; j++) {
+                elements[i][j] = new Element(i, j);
+            }
+        }
+        return elements;
+    }
+
+    public int getRowIndex() {
+        return this.rowIndex;
+    }
+
+    public int getColIndex() {
+        return this.colIndex;
+    }
+
+    public static Element getElement(int rowIndex, int colIndex, int boardSize) {
+        int index1 = boardSize - colIndex;
+        int index2 = rowIndex - 1;
+        return ELEMENTS[index1][index2];
+    }
+
+    public static Element createElement(int rowIndex, int colIndex) {
+        return ELEMENTS[rowIndex][colIndex];
+    }
+
+}
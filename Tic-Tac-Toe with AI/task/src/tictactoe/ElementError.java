@@ -0,0 +1,24 @@
+package tictactoe;
+
+import java.util.Arrays;
+
+enum ElementError {
+    CELL_OCCUPIED("This cell is occupied! Choose another one!"),
+    NOT_NUMBER("You should enter numbers!"),
+    NOT_TWO_INPUTS("You should enter numbers!"),
+    NOT_IN_RANGE("Coordinates should be from 1 to %1$d!"),
+    INVALID_BOARD_LENGTH("The board string should not contain more than %2$d"),
+    BOARD_INVALID_CHAR("Not a valid character on the board - only "+ Arrays.toString(BoardUtil.CHARS_ALLOWED)+" are allowed!"),
+    BOARD_INVALID_STATE("The difference between the number of times the symbols occur on the board should not be more than one!");
+
+    private String message;
+
+    ElementError(String message) {
+        this.message = message;
+    }
+
+    public String getMessage(BoardGeometry geometry) {
+        return String.format(this.message, geometry.getSize(), geometry.getCellCount());
+    }
+
+}
@@ -0,0 +1,101 @@
+package tictactoe;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Bit set of the empty cells, read-only as a List
+class EmptyCellPool extends AbstractList<Element> {
+    private final BoardGeometry geometry;
+    private final long[] words;
+    private int count;
+
+    public EmptyCellPool(BoardGeometry geometry) {
+        this.geometry = geometry;
+        this.words = new long[(geometry.getCellCount() + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    public EmptyCellPool(EmptyCellPool pool) {
+        this.geometry = pool.geometry;
+        this.words = pool.words.clone();
+        this.count = pool.count;
+    }
+
+    public boolean containsCell(int cell) {
+        return (words[cell / Long.SIZE] & 1L << cell) != 0;
+    }
+
+    public boolean addCell(int cell) {
+        if(containsCell(cell))
+            return false;
+        words[cell / Long.SIZE] |= 1L << cell;
+        count++;
+        return true;
+    }
+
+    public boolean removeCell(int cell) {
+        if(!containsCell(cell))
+            return false;
+        words[cell / Long.SIZE] &= ~(1L << cell);
+        count--;
+        return true;
+    }
+
+    // -1 when there is none
+    public int nextCell(int cell) {
+        int wordIndex = cell / Long.SIZE;
+        if(wordIndex >= words.length)
+            return -1;
+        long word = words[wordIndex] & -1L << cell;
+        while(word == 0) {
+            if(++wordIndex == words.length)
+                return -1;
+            word = words[wordIndex];
+        }
+        return wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word);
+    }
+
+    public int getCell(int index) {
+        if(index < 0 || index >= count)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        int wordIndex = 0;
+        while(Long.bitCount(words[wordIndex]) <= index)
+            index -= Long.bitCount(words[wordIndex++]);
+        long word = words[wordIndex];
+        for(; index > 0; index--)
+            word &= word - 1;
+        return wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word);
+    }
+
+    @Override
+    public Element get(int index) {
+        int cell = getCell(index);
+        return Element.createElement(geometry.getRowIndex(cell), geometry.getColIndex(cell));
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public Iterator<Element> iterator() {
+        return new Iterator<>() {
+            private int cell = nextCell(0);
+
+            @Override
+            public boolean hasNext() {
+                return cell >= 0;
+            }
+
+            @Override
+            public Element next() {
+                if(cell < 0)
+                    throw new NoSuchElementException();
+                Element element = Element.createElement(geometry.getRowIndex(cell), geometry.getColIndex(cell));
+                cell = nextCell(cell + 1);
+                return element;
+            }
+        };
+    }
+}
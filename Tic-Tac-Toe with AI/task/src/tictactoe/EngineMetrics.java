@@ -0,0 +1,176 @@
+package tictactoe;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Process-wide engine counters, on with -Dtictactoe.metrics=true
+public class EngineMetrics {
+    public static final String PROPERTY = "tictactoe.metrics";
+    public static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+    public static final int LATENCY_SAMPLE_INTERVAL = 16;
+    private static final int LEVEL_COUNT = GameLevel.values().length;
+
+    private static final LatencyHistogram[] MOVE_LATENCIES = new LatencyHistogram[LEVEL_COUNT];
+    private static final LongAdder[] MOVE_COUNTS = new LongAdder[LEVEL_COUNT];
+    private static final LongAdder[] NODE_COUNTS = new LongAdder[LEVEL_COUNT];
+    private static final LongAccumulator[] MAX_NODE_COUNTS = new LongAccumulator[LEVEL_COUNT];
+    private static final LongAdder BOARD_UPDATES = new LongAdder();
+    private static final LongAdder[] GAME_COUNTS = new LongAdder[GameStatus.values().length];
+    private static final long START_NANOS = System.nanoTime();
+
+    static {
+        for(int i = 0; i < LEVEL_COUNT; i++) {
+            MOVE_LATENCIES[i] = new LatencyHistogram();
+            MOVE_COUNTS[i] = new LongAdder();
+            NODE_COUNTS[i] = new LongAdder();
+            MAX_NODE_COUNTS[i] = new LongAccumulator(Math::max, 0);
+        }
+        for(int i = 0; i < GAME_COUNTS.length; i++)
+            GAME_COUNTS[i] = new LongAdder();
+    }
+
+    private EngineMetrics() {
+    }
+
+    public static void moveTimed(GameLevel level, long nanos) {
+        MOVE_LATENCIES[level.ordinal()].record(nanos);
+    }
+
+    public static void movesPlayed(GameLevel level, int moveCount, long nodeCount, long maxNodeCount) {
+        MOVE_COUNTS[level.ordinal()].add(moveCount);
+        if(nodeCount > 0) {
+            NODE_COUNTS[level.ordinal()].add(nodeCount);
+            MAX_NODE_COUNTS[level.ordinal()].accumulate(maxNodeCount);
+        }
+    }
+
+    public static void gameFinished(GameStatus result, int moveCount) {
+        GAME_COUNTS[result.ordinal()].increment();
+        BOARD_UPDATES.add(moveCount);
+    }
+
+    public static MetricsSnapshot snapshot() {
+        MetricsSnapshot snapshot = new MetricsSnapshot(System.nanoTime() - START_NANOS, BOARD_UPDATES.sum());
+        for(GameLevel level : GameLevel.values()) {
+            LatencyHistogram latency = MOVE_LATENCIES[level.ordinal()];
+            snapshot.setLevel(level, MOVE_COUNTS[level.ordinal()].sum(), latency.getCount(), latency.getSumNanos(), latency.getPercentileBound(0.5),
+                    latency.getPercentileBound(0.99), NODE_COUNTS[level.ordinal()].sum(),
+                    MAX_NODE_COUNTS[level.ordinal()].get());
+        }
+        for(GameStatus result : GameStatus.values())
+            snapshot.setGameCount(result, GAME_COUNTS[result.ordinal()].sum());
+        return snapshot;
+    }
+}
+
+class MetricsSnapshot {
+    private final long uptimeNanos;
+    private final long boardUpdateCount;
+    private final long[] moveCounts = new long[GameLevel.values().length];
+    private final long[] timedMoveCounts = new long[GameLevel.values().length];
+    private final long[] latencySumNanos = new long[GameLevel.values().length];
+    private final long[] medianLatencyBounds = new long[GameLevel.values().length];
+    private final long[] p99LatencyBounds = new long[GameLevel.values().length];
+    private final long[] nodeCounts = new long[GameLevel.values().length];
+    private final long[] maxNodeCounts = new long[GameLevel.values().length];
+    private final long[] gameCounts = new long[GameStatus.values().length];
+
+    MetricsSnapshot(long uptimeNanos, long boardUpdateCount) {
+        this.uptimeNanos = uptimeNanos;
+        this.boardUpdateCount = boardUpdateCount;
+    }
+
+    void setLevel(GameLevel level, long moveCount, long timedMoveCount, long latencySumNanos,
+                  long medianLatencyBound, long p99LatencyBound, long nodeCount, long maxNodeCount) {
+        int i = level.ordinal();
+        moveCounts[i] = moveCount;
+        timedMoveCounts[i] = timedMoveCount;
+        this.latencySumNanos[i] = latencySumNanos;
+        medianLatencyBounds[i] = medianLatencyBound;
+        p99LatencyBounds[i] = p99LatencyBound;
+        nodeCounts[i] = nodeCount;
+        maxNodeCounts[i] = maxNodeCount;
+    }
+
+    void setGameCount(GameStatus result, long gameCount) {
+        gameCounts[result.ordinal()] = gameCount;
+    }
+
+    public long getUptimeNanos() {
+        return uptimeNanos;
+    }
+
+    public long getMoveCount(GameLevel level) {
+        return moveCounts[level.ordinal()];
+    }
+
+    public long getTimedMoveCount(GameLevel level) {
+        return timedMoveCounts[level.ordinal()];
+    }
+
+    public double getMeanLatencyNanos(GameLevel level) {
+        int i = level.ordinal();
+        return timedMoveCounts[i] == 0 ? 0 : (double) latencySumNanos[i] / timedMoveCounts[i];
+    }
+
+    // Bucket bounds, in nanoseconds
+    public long getMedianLatencyBound(GameLevel level) {
+        return medianLatencyBounds[level.ordinal()];
+    }
+
+    public long getP99LatencyBound(GameLevel level) {
+        return p99LatencyBounds[level.ordinal()];
+    }
+
+    public long getNodeCount(GameLevel level) {
+        return nodeCounts[level.ordinal()];
+    }
+
+    public double getNodesPerMove(GameLevel level) {
+        return moveCounts[level.ordinal()] == 0 ? 0 : (double) nodeCounts[level.ordinal()] / moveCounts[level.ordinal()];
+    }
+
+    public long getMaxNodeCount(GameLevel level) {
+        return maxNodeCounts[level.ordinal()];
+    }
+
+    public long getBoardUpdateCount() {
+        return boardUpdateCount;
+    }
+
+    public double getBoardUpdatesPerSecond() {
+        return uptimeNanos == 0 ? 0 : boardUpdateCount * 1e9 / uptimeNanos;
+    }
+
+    public long getGameCount(GameStatus result) {
+        return gameCounts[result.ordinal()];
+    }
+
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        String lineSeparator = System.lineSeparator();
+        out.append(String.format("%-8s %10s %10s %10s %10s %12s %12s", "level", "moves", "mean", "p50 <=",
+                "p99 <=", "nodes/move", "max nodes")).append(lineSeparator);
+        for(GameLevel level : GameLevel.values()) {
+            if(getMoveCount(level) == 0 && getTimedMoveCount(level) == 0)
+                continue;
+            out.append(String.format("%-8s %10d %10s %10s %10s %12.1f %12d", level.getLevel(), getMoveCount(level),
+                    formatNanos(getMeanLatencyNanos(level)), formatNanos(getMedianLatencyBound(level)),
+                    formatNanos(getP99LatencyBound(level)), getNodesPerMove(level), getMaxNodeCount(level)))
+                    .append(lineSeparator);
+        }
+        out.append(String.format("Board updates: %d, %.1f/s", boardUpdateCount, getBoardUpdatesPerSecond()))
+                .append(lineSeparator);
+        out.append(String.format("Games: X wins %d, O wins %d, draws %d", getGameCount(GameStatus.X_WINS),
+                getGameCount(GameStatus.O_WINS), getGameCount(GameStatus.DRAW))).append(lineSeparator);
+        return out.toString();
+    }
+
+    private static String formatNanos(double nanos) {
+        if(nanos == Long.MAX_VALUE)
+            return "> 10 s";
+        if(nanos < 1e6)
+            return String.format("%.1f us", nanos / 1e3);
+        return String.format("%.1f ms", nanos / 1e6);
+    }
+}
@@ -0,0 +1,53 @@
+package tictactoe;
+
+import java.util.Scanner;
+
+class FillBoardAndTestBoardUtil extends BoardUtil {
+
+
+    public FillBoardAndTestBoardUtil(FillBoardAndTestTicTac game, Scanner scanner) {
+        super(game.getGeometry());
+        this.game = game;
+        this.boardVerifier = new FillBoardAndTestBoardVerifier(this);
+        System.out.print("Enter cells: ");
+        String boardString = scanner.nextLine();
+        game.setBoardString(boardString);
+        initBoardWithString(boardString);
+    }
+
+    private void initBoardWithString(String initialState) {
+        int rowIndex = 0, colIndex = 0;
+        for(char c: initialState.toCharArray()) {
+            updateBoardValue(rowIndex, colIndex, c);
+            colIndex++;
+            if(colIndex == geometry.getSize()) {
+                rowIndex++;
+                colIndex = 0;
+            }
+        }
+        updateNextCharAsInput();
+    }
+
+    public void updateNextCharAsInput() {
+        FillBoardAndTestTicTac fillGame = (FillBoardAndTestTicTac) game;
+        char nextCharAsInput = '\u0000';
+        if(boardStatistics[X_INDEX] == boardStatistics[O_INDEX])
+            nextCharAsInput = CHARS_ALLOWED[X_INDEX];
+        else if(boardStatistics[X_INDEX] - boardStatistics[O_INDEX] == 1)
+            nextCharAsInput = CHARS_ALLOWED[O_INDEX];
+        else if(boardStatistics[O_INDEX] - boardStatistics[X_INDEX] == 1)
+            nextCharAsInput = CHARS_ALLOWED[X_INDEX];
+        fillGame.setNextCharAsInput(nextCharAsInput);
+    }
+
+    @Override
+    public void updateGameStatus() {
+        FillBoardAndTestBoardVerifier verifier = (FillBoardAndTestBoardVerifier) boardVerifier;
+        GameRound round = game.getRound();
+        if(round == null) {
+            game.setGameStatus(verifier.checkFullBoard());
+        } else
+            game.setGameStatus(boardVerifier.checkRoundInput(round));
+    }
+
+}
@@ -0,0 +1,39 @@
+package tictactoe;
+
+class FillBoardAndTestBoardVerifier extends BoardVerifier {
+
+    public FillBoardAndTestBoardVerifier(BoardUtil boardUtil) {
+        this.boardUtil = boardUtil;
+    }
+
+    public ElementError isBoardStringValid(String boardString) {
+        if(boardString.length() != boardUtil.getGeometry().getCellCount())
+            return ElementError.INVALID_BOARD_LENGTH;
+
+        for(char ch : boardString.toCharArray()) {
+            if(!String.valueOf(BoardUtil.CHARS_ALLOWED).contains(String.valueOf(ch)))
+                return ElementError.BOARD_INVALID_CHAR;
+        }
+
+        int numOfXs = (int)boardString.chars()
+                .filter(c->(char)c == BoardUtil.CHARS_ALLOWED[BoardUtil.X_INDEX])
+                .count();
+        int numOfOs = (int)boardString.chars()
+                .filter(c->(char)c == BoardUtil.CHARS_ALLOWED[BoardUtil.O_INDEX])
+                .count();
+        int difference = Math.abs(numOfXs-numOfOs);
+        if(!(difference == 0 || difference == 1))
+            return ElementError.BOARD_INVALID_STATE;
+        return null;
+
+    }
+
+    public GameStatus checkFullBoard() {
+        return getBoardStatus();
+    }
+
+    public char isThreeConsecutiveChars() {
+        return BoardUtil.CHARS_ALLOWED[getBoard().getWinningSide()];
+    }
+
+}
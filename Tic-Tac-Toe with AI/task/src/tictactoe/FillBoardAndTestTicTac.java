@@ -0,0 +1,58 @@
+package tictactoe;
+
+class FillBoardAndTestTicTac extends TicTacToeGame {
+
+    private String boardString;
+    private char nextCharAsInput;
+
+    public FillBoardAndTestTicTac() {
+        this(BoardGeometry.STANDARD);
+    }
+
+    public FillBoardAndTestTicTac(BoardGeometry geometry) {
+        this.gameType = GameType.FILL_BOARD_AND_GET_INPUT;
+        this.geometry = geometry;
+        this.boardUtil = new FillBoardAndTestBoardUtil(this, scanner);
+    }
+
+    public void setBoardString(String boardString) {
+        this.boardString = boardString;
+    }
+
+    public void setNextCharAsInput(char nextCharAsInput) {
+        this.nextCharAsInput = nextCharAsInput;
+    }
+
+    public char getNextCharAsInput() {
+        return nextCharAsInput;
+    }
+
+    @Override
+    public void playGame() {
+
+        FillBoardAndTestBoardVerifier boardVerifier = (FillBoardAndTestBoardVerifier)boardUtil.getBoardVerifier();
+
+        boardUtil.displayBoard();
+
+        ElementError error = boardVerifier
+                .isBoardStringValid(boardString);
+        if(error != null) {
+            System.out.println(error.getMessage(geometry));
+            return;
+        }
+
+        boardUtil.updateGameStatus();
+
+        GameRound round = new GameRound(boardUtil, RoundType.FILL_ROUND);
+        addRound(round);
+        round.getNextMove();
+        round.setValue(nextCharAsInput);
+
+        boardUtil.updateBoard(round.getInput(), nextCharAsInput, RoundType.FILL_ROUND);
+        boardUtil.displayBoard();
+        boardUtil.updateGameStatus();
+        System.out.println(gameStatus.getMessage());
+
+    }
+
+}
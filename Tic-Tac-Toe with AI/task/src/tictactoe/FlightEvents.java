@@ -0,0 +1,68 @@
+package tictactoe;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// JFR events, off unless a recording such as tictactoe.jfc turns them on
+class FlightEvents {
+    static final String CATEGORY = "Tic-Tac-Toe";
+
+    private FlightEvents() {
+    }
+
+    public static void gameStarted(GameType gameType, BoardGeometry geometry) {
+        GameStartEvent event = new GameStartEvent();
+        if(event.isEnabled()) {
+            event.gameType = gameType.name();
+            event.boardSize = geometry.getSize();
+            event.winLength = geometry.getWinLength();
+            event.commit();
+        }
+    }
+
+    public static void gameEnded(GameType gameType, GameStatus result, int moveCount) {
+        GameEndEvent event = new GameEndEvent();
+        if(event.isEnabled()) {
+            event.gameType = gameType.name();
+            event.result = result.name();
+            event.moveCount = moveCount;
+            event.commit();
+        }
+    }
+}
+
+@Name("tictactoe.GameStart")
+@Label("Game Start")
+@Category(FlightEvents.CATEGORY)
+@Enabled(false)
+@StackTrace(false)
+class GameStartEvent extends Event {
+    @Label("Game Type")
+    String gameType;
+
+    @Label("Board Size")
+    int boardSize;
+
+    @Label("Win Length")
+    int winLength;
+}
+
+@Name("tictactoe.GameEnd")
+@Label("Game End")
+@Category(FlightEvents.CATEGORY)
+@Enabled(false)
+@StackTrace(false)
+class GameEndEvent extends Event {
+    @Label("Game Type")
+    String gameType;
+
+    @Label("Result")
+    String result;
+
+    @Label("Moves")
+    int moveCount;
+}
@@ -0,0 +1,87 @@
+package tictactoe;
+
+class GameAnalysis {
+    private final int[] moveCounts = new int[2];
+    private final int[] unscoredMoveCounts = new int[2];
+    private final int[] blunderCounts = new int[2];
+    private final int[] losingBlunderCounts = new int[2];
+    private final int[] firstBlunders = new int[2];
+    private boolean isValid;
+
+    public void reset() {
+        for(int i = 0; i < 2; i++) {
+            moveCounts[i] = 0;
+            unscoredMoveCounts[i] = 0;
+            blunderCounts[i] = 0;
+            losingBlunderCounts[i] = 0;
+            firstBlunders[i] = -1;
+        }
+    }
+
+    // A move with an unknown value on either side of it is left out of the move and blunder counts
+    public void addMove(int side, int ply, int valueBefore, int valueAfter) {
+        int player = side - BoardUtil.X_INDEX;
+        if(valueBefore == GameReplayer.UNKNOWN || valueAfter == GameReplayer.UNKNOWN) {
+            unscoredMoveCounts[player]++;
+            return;
+        }
+        moveCounts[player]++;
+        if(valueAfter < valueBefore) {
+            if(blunderCounts[player]++ == 0)
+                firstBlunders[player] = ply;
+            if(valueAfter == GameReplayer.LOSS)
+                losingBlunderCounts[player]++;
+        }
+    }
+
+    public void setValid(boolean isValid) {
+        this.isValid = isValid;
+    }
+
+    public boolean isValid() {
+        return isValid;
+    }
+
+    // Player 0 is X, 1 is O
+    public int getMoveCount(int player) {
+        return moveCounts[player];
+    }
+
+    public int getUnscoredMoveCount(int player) {
+        return unscoredMoveCounts[player];
+    }
+
+    public int getBlunderCount(int player) {
+        return blunderCounts[player];
+    }
+
+    public int getLosingBlunderCount(int player) {
+        return losingBlunderCounts[player];
+    }
+
+    // Counted from 1, 0 without a blunder
+    public int getFirstBlunder(int player) {
+        return firstBlunders[player] + 1;
+    }
+
+    public void appendLine(String segment, long recordNumber, GameRecord record, StringBuilder line) {
+        line.append(segment).append('#').append(recordNumber).append(' ')
+                .append(BlunderStats.getPlayerName(record.getLevel(0))).append(" vs ")
+                .append(BlunderStats.getPlayerName(record.getLevel(1))).append(' ')
+                .append(record.getGeometry().getSize()).append('x').append(record.getGeometry().getSize()).append(": ");
+        if(!isValid) {
+            line.append("does not replay").append(System.lineSeparator());
+            return;
+        }
+        line.append(record.getResult().getMessage()).append(" in ").append(record.getMoveCount()).append(" moves");
+        for(int player = 0; player < 2; player++) {
+            line.append(", ").append(BoardUtil.CHARS_ALLOWED[player + BoardUtil.X_INDEX])
+                    .append(" blunders ").append(blunderCounts[player]);
+            if(blunderCounts[player] > 0)
+                line.append(" (first on move ").append(getFirstBlunder(player)).append(')');
+            if(unscoredMoveCounts[player] > 0)
+                line.append(", ").append(unscoredMoveCounts[player]).append(" unscored");
+        }
+        line.append(System.lineSeparator());
+    }
+}
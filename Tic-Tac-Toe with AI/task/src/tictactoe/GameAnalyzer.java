@@ -0,0 +1,122 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Counts blunders in logged games. Usage: GameAnalyzer [-games] [log directory or segment...]
+public class GameAnalyzer {
+    public static final String THREADS_PROPERTY = "tictactoe.analyzer.threads";
+    // Per game lines are handed to the output in blocks of about this many chars
+    private static final int OUTPUT_BLOCK_LENGTH = 1 << 16;
+
+    private final MoveTable moveTable;
+    private final int threadCount;
+    private final PrintStream gameOutput;
+
+    public GameAnalyzer(MoveTable moveTable, int threadCount, PrintStream gameOutput) {
+        this.moveTable = moveTable;
+        this.threadCount = threadCount;
+        this.gameOutput = gameOutput;
+    }
+
+    public static void main(String[] args) throws IOException {
+        boolean isPerGame = args.length > 0 && args[0].equals("-games");
+        List<Path> segments = new ArrayList<>();
+        for(int i = isPerGame ? 1 : 0; i < args.length; i++)
+            segments.addAll(getSegments(Paths.get(args[i])));
+        if(args.length == (isPerGame ? 1 : 0))
+            segments.addAll(getSegments(Paths.get(System.getProperty(GameLog.DIR_PROPERTY, "."))));
+        GameAnalyzer analyzer = new GameAnalyzer(loadMoveTable(),
+                Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()),
+                isPerGame ? System.out : null);
+        BlunderStats stats = analyzer.analyze(segments);
+        stats.print(System.out);
+    }
+
+    private static List<Path> getSegments(Path path) throws IOException {
+        if(Files.isDirectory(path))
+            return GameLog.listSegments(path);
+        List<Path> segments = new ArrayList<>();
+        segments.add(path);
+        return segments;
+    }
+
+    // Solved here when the table file is missing
+    public static MoveTable loadMoveTable() {
+        try {
+            return MoveTable.load(Paths.get(System.getProperty(MoveTable.FILE_PROPERTY, MoveTable.DEFAULT_FILE)));
+        } catch(IOException e) {
+            return new MoveTableGenerator().generate();
+        }
+    }
+
+    public BlunderStats analyze(List<Path> segments) {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        AtomicInteger nextSegment = new AtomicInteger();
+        long startTime = System.nanoTime();
+        try {
+            List<Future<BlunderStats>> futures = new ArrayList<>();
+            for(int i = 0; i < threadCount; i++)
+                futures.add(executor.submit(() -> analyzeSegments(segments, nextSegment)));
+            BlunderStats stats = new BlunderStats();
+            for(Future<BlunderStats> future : futures)
+                stats.add(future.get());
+            stats.setElapsedNanos(System.nanoTime() - startTime);
+            return stats;
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Analysis was interrupted", e);
+        } catch(ExecutionException e) {
+            throw new IllegalStateException("Analysis failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private BlunderStats analyzeSegments(List<Path> segments, AtomicInteger nextSegment) {
+        GameReplayer replayer = new GameReplayer(moveTable);
+        BlunderStats stats = new BlunderStats();
+        StringBuilder lines = new StringBuilder();
+        for(int index = nextSegment.getAndIncrement(); index < segments.size(); index = nextSegment.getAndIncrement()) {
+            Path segment = segments.get(index);
+            String name = segment.getFileName().toString();
+            long[] recordNumber = {0};
+            try {
+                GameLog.read(segment, record -> {
+                    GameAnalysis analysis = replayer.replay(record);
+                    stats.addGame(record, analysis);
+                    if(gameOutput != null) {
+                        analysis.appendLine(name, recordNumber[0], record, lines);
+                        if(lines.length() >= OUTPUT_BLOCK_LENGTH)
+                            flush(lines);
+                    }
+                    recordNumber[0]++;
+                });
+            } catch(IOException e) {
+                stats.addUnreadableSegment();
+                System.err.println("Could not read " + segment + ": " + e.getMessage());
+            }
+        }
+        flush(lines);
+        return stats;
+    }
+
+    private void flush(StringBuilder lines) {
+        if(gameOutput == null || lines.length() == 0)
+            return;
+        synchronized(gameOutput) {
+            gameOutput.print(lines);
+        }
+        lines.setLength(0);
+    }
+}
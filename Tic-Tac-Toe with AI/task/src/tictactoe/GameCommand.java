@@ -0,0 +1,71 @@
+package tictactoe;
+
+// start <p1> <p2> [size [winLength]], simulate <l1> <l2> <games> [size [winLength]], stats or exit
+class GameCommand {
+    private String command;
+    private String[] players = new String[2];
+    private int boardSize;
+    private int winLength;
+    private int gameCount;
+
+    public static GameCommand parse(String inputLine) {
+        GameCommand result = new GameCommand();
+        String[] inputs = inputLine.split("\\s+");
+        if(inputs.length >= 1)
+            result.command = inputs[0];
+        result.players[0] = inputs.length >= 2 ? inputs[1] : null;
+        result.players[1] = inputs.length >= 3 ? inputs[2] : null;
+        // simulate takes the number of games before the board size
+        int sizeIndex = result.isSimulate() ? 4 : 3;
+        result.gameCount = sizeIndex == 4 && inputs.length >= 4 && inputs[3].matches("\\d{1,9}") ?
+                Integer.parseInt(inputs[3]) : 0;
+        result.boardSize = inputs.length > sizeIndex ? parseNumber(inputs[sizeIndex]) : BoardGeometry.DEFAULT_SIZE;
+        result.winLength = inputs.length > sizeIndex + 1 ? parseNumber(inputs[sizeIndex + 1]) :
+                inputs.length > sizeIndex ? result.boardSize : BoardGeometry.DEFAULT_WIN_LENGTH;
+        return result;
+    }
+
+    private static int parseNumber(String input) {
+        return input.matches("\\d{1,2}") ? Integer.parseInt(input) : -1;
+    }
+
+    public boolean isExit() {
+        return command != null && command.equals("exit");
+    }
+
+    public boolean isSimulate() {
+        return command != null && command.equals("simulate");
+    }
+
+    public boolean isStart() {
+        return command != null && command.equals("start");
+    }
+
+    public boolean isStats() {
+        return command != null && command.equals("stats");
+    }
+
+    public boolean isValid() {
+        boolean isSimulate = isSimulate();
+        boolean result = isStart() || isExit() || isSimulate;
+        for(String p : players) {
+            result = result && p != null && (p.equals("user") && !isSimulate ||
+                    p.equals("easy") || p.equals("medium") || p.equals("hard") || p.equals("mcts"));
+        }
+        result = result && (!isSimulate || gameCount > 0);
+        result = result && BoardGeometry.isValid(boardSize, winLength);
+        return result || isExit() || isStats();
+    }
+
+    public String getPlayer(int index) {
+        return players[index];
+    }
+
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    public BoardGeometry getGeometry() {
+        return BoardGeometry.of(boardSize, winLength);
+    }
+}
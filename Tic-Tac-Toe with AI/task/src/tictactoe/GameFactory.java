@@ -0,0 +1,81 @@
+package tictactoe;
+
+class GameFactory {
+    private final BoardGeometry geometry;
+
+    public GameFactory() {
+        this(BoardGeometry.STANDARD);
+    }
+
+    public GameFactory(BoardGeometry geometry) {
+        this.geometry = geometry;
+    }
+
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    public GameType getGameType(String[] typeArray) {
+        GameType gameType = typeArray[0].equals("user") && typeArray[1].equals("user") ? GameType.USER_USER : null;
+        gameType = gameType == null && typeArray[0].equals("user") && !typeArray[1].equals("user") ? GameType.USER_MACHINE : null;
+        gameType = gameType == null && !typeArray[0].equals("user") && typeArray[1].equals("user") ? GameType.MACHINE_USER : null;
+        gameType = gameType == null && !typeArray[0].equals("user") && !typeArray[1].equals("user") ? GameType.MACHINE_MACHINE : null;
+        return gameType;
+    }
+
+    public TicTacToeInterface getGame(GameType type) {
+        switch(type) {
+            case FILL_BOARD_AND_GET_INPUT:
+                return new FillBoardAndTestTicTac(geometry);
+            case USER_USER:
+                return new UserVersusUserTicTac(geometry);
+        }
+        return null;
+    }
+
+    public TicTacToeInterface getGame(GameType type, GameLevel level) {
+        switch(type) {
+            case USER_MACHINE:
+            case MACHINE_USER:
+                return new MachineVersusUserAndOtherwiseTicTac(type, level, geometry);
+        }
+        return null;
+    }
+
+    public TicTacToeInterface getGame(GameType type, GameLevel level1, GameLevel level2) {
+        switch(type) {
+            case MACHINE_MACHINE:
+                return new MachineVersusMachineTicTac(level1, level2, geometry);
+        }
+        return null;
+    }
+
+    public GameLevel getGameLevel(String level) {
+        switch(level) {
+            case "easy":
+                return GameLevel.EASY;
+            case "medium":
+                return GameLevel.MEDIUM;
+            case "hard":
+                return GameLevel.HARD;
+            case "mcts":
+                return GameLevel.MCTS;
+        }
+        return null;
+    }
+
+    public ComputerStrategy getStrategy(GameLevel level) {
+        switch(level) {
+            case EASY:
+                return new EasyGameStrategy();
+            case MEDIUM:
+                return new MediumGameStrategy();
+            case HARD:
+                return new MoveTableGameStrategy();
+            case MCTS:
+                return new MctsGameStrategy();
+
+        }
+        return null;
+    }
+}
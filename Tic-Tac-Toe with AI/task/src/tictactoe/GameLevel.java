@@ -0,0 +1,14 @@
+package tictactoe;
+
+enum GameLevel {
+    EASY("easy"), MEDIUM("medium"), HARD("hard"), MCTS("mcts");
+    private String level;
+
+    GameLevel(String level) {
+        this.level = level;
+    }
+
+    public String getLevel() {
+        return level;
+    }
+}
@@ -0,0 +1,269 @@
+package tictactoe;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+// Append-only log of finished games in memory-mapped segment files games-<index>.log
+public class GameLog implements Closeable {
+    public static final String DIR_PROPERTY = "tictactoe.log.dir";
+    public static final String SEGMENT_BYTES_PROPERTY = "tictactoe.log.segmentBytes";
+    public static final String SYNC_PROPERTY = "tictactoe.log.syncMillis";
+    public static final int MAGIC = 0x5454544C;
+    public static final int VERSION = 1;
+    public static final int DEFAULT_SEGMENT_BYTES = 16 << 20;
+    public static final long DEFAULT_SYNC_MILLIS = 1000;
+    private static final int HEADER_LENGTH = 2 * Integer.BYTES + Long.BYTES;
+    // A record is a 2 byte length, the encoded record and its CRC32; a length of 0 ends the segment
+    private static final int RECORD_OVERHEAD = Short.BYTES + Integer.BYTES;
+    private static final String SEGMENT_PREFIX = "games-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static GameLog defaultLog;
+    // Written after defaultLog, so a thread that sees it set sees the log
+    private static volatile boolean isDefaultLogOpened;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final ScheduledExecutorService syncer;
+    // Maps the next segment and forces the ones rolled away from; it never takes the lock an append holds
+    private final ExecutorService segmentMapper;
+    private final CRC32 crc = new CRC32();
+    private long segmentIndex;
+    private MappedByteBuffer buffer;
+    private Future<MappedByteBuffer> nextSegment;
+    private long recordCount;
+    private boolean isDirty;
+    private boolean isClosed;
+
+    public GameLog(Path directory) throws IOException {
+        this(directory, Integer.getInteger(SEGMENT_BYTES_PROPERTY, DEFAULT_SEGMENT_BYTES),
+                Long.getLong(SYNC_PROPERTY, DEFAULT_SYNC_MILLIS));
+    }
+
+    // A syncMillis of 0 only forces on sync and close
+    public GameLog(Path directory, int segmentBytes, long syncMillis) throws IOException {
+        if(segmentBytes < HEADER_LENGTH + RECORD_OVERHEAD + GameRecord.MAX_ENCODED_LENGTH + Short.BYTES)
+            throw new IllegalArgumentException("Segments of " + segmentBytes + " bytes cannot hold a game");
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        Files.createDirectories(directory);
+        List<Path> segments = listSegments(directory);
+        segmentIndex = segments.isEmpty() ? 0 : getSegmentIndex(segments.get(segments.size() - 1)) + 1;
+        buffer = mapSegment(segmentIndex);
+        segmentMapper = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-log-segments");
+            thread.setDaemon(true);
+            return thread;
+        });
+        prepareNextSegment();
+        if(syncMillis > 0) {
+            syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "game-log-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            syncer.scheduleWithFixedDelay(this::sync, syncMillis, syncMillis, TimeUnit.MILLISECONDS);
+        } else
+            syncer = null;
+    }
+
+    // Null when tictactoe.log.dir is not set or the log cannot be opened
+    public static GameLog getDefault() {
+        if(!isDefaultLogOpened) {
+            synchronized(GameLog.class) {
+                if(!isDefaultLogOpened) {
+                    defaultLog = openDefault();
+                    isDefaultLogOpened = true;
+                }
+            }
+        }
+        return defaultLog;
+    }
+
+    private static GameLog openDefault() {
+        String directory = System.getProperty(DIR_PROPERTY);
+        if(directory == null)
+            return null;
+        try {
+            GameLog log = new GameLog(Paths.get(directory));
+            Runtime.getRuntime().addShutdownHook(new Thread(log::close, "game-log-close"));
+            return log;
+        } catch(IOException e) {
+            System.err.println("Games are not logged: " + e);
+            return null;
+        }
+    }
+
+    public synchronized void append(GameRecord record) {
+        if(isClosed)
+            throw new IllegalStateException("The game log is closed");
+        int length = record.getEncodedLength();
+        // Room is left for the 0 length that ends the segment
+        if(buffer.remaining() < length + RECORD_OVERHEAD + Short.BYTES)
+            rollSegment();
+        int start = buffer.position();
+        buffer.position(start + Short.BYTES);
+        record.encode(buffer);
+        ByteBuffer body = buffer.duplicate();
+        body.position(start + Short.BYTES).limit(buffer.position());
+        crc.reset();
+        crc.update(body);
+        buffer.putInt((int) crc.getValue());
+        // The length goes in last, so a reader in this process never sees half a record
+        buffer.putShort(start, (short) length);
+        recordCount++;
+        isDirty = true;
+    }
+
+    // Appends go on while the segment is forced
+    public void sync() {
+        MappedByteBuffer dirtyBuffer;
+        synchronized(this) {
+            if(!isDirty || isClosed)
+                return;
+            dirtyBuffer = buffer;
+            isDirty = false;
+        }
+        dirtyBuffer.force();
+    }
+
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    public synchronized Path getSegmentPath() {
+        return getSegmentPath(directory, segmentIndex);
+    }
+
+    // Waits for the segments rolled away from to be forced, and removes the next one, which holds no records
+    @Override
+    public void close() {
+        if(syncer != null)
+            syncer.shutdown();
+        MappedByteBuffer dirtyBuffer;
+        synchronized(this) {
+            if(isClosed)
+                return;
+            isClosed = true;
+            dirtyBuffer = isDirty ? buffer : null;
+            isDirty = false;
+        }
+        if(dirtyBuffer != null)
+            dirtyBuffer.force();
+        segmentMapper.shutdown();
+        try {
+            segmentMapper.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            takeNextSegment();
+            Files.deleteIfExists(getSegmentPath(directory, segmentIndex + 1));
+        } catch(IOException | UncheckedIOException e) {
+            // A spare segment that stays behind has a header and no records, so readers skip it
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // The next segment is normally mapped by the time this one is full, so a roll only swaps buffers
+    private void rollSegment() {
+        MappedByteBuffer fullBuffer = buffer;
+        boolean wasDirty = isDirty;
+        buffer = takeNextSegment();
+        segmentIndex++;
+        isDirty = false;
+        if(wasDirty)
+            segmentMapper.execute(fullBuffer::force);
+        prepareNextSegment();
+    }
+
+    private void prepareNextSegment() {
+        long index = segmentIndex + 1;
+        nextSegment = segmentMapper.submit(() -> mapSegment(index));
+    }
+
+    private MappedByteBuffer takeNextSegment() {
+        try {
+            return nextSegment.get();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting a new game log segment", e);
+        } catch(ExecutionException e) {
+            throw new UncheckedIOException("Could not start a new game log segment",
+                    e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause()));
+        }
+    }
+
+    // The mapping outlives the channel, so the channel is closed at once
+    private MappedByteBuffer mapSegment(long index) throws IOException {
+        try(FileChannel channel = FileChannel.open(getSegmentPath(directory, index), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+            segment.putInt(MAGIC).putInt(VERSION).putLong(index);
+            return segment;
+        }
+    }
+
+    private static Path getSegmentPath(Path directory, long index) {
+        return directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    private static long getSegmentIndex(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    // Oldest first
+    public static List<Path> listSegments(Path directory) throws IOException {
+        if(!Files.isDirectory(directory))
+            return new ArrayList<>();
+        try(Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> path.getFileName().toString().matches(SEGMENT_PREFIX + "\\d+" + SEGMENT_SUFFIX))
+                    .sorted((a, b) -> Long.compare(getSegmentIndex(a), getSegmentIndex(b)))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    // Stops at the first record with a bad checksum
+    public static long read(Path segment, Consumer<GameRecord> consumer) throws IOException {
+        try(FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if(buffer.remaining() < HEADER_LENGTH || buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+                throw new IOException("Not a game log segment: " + segment);
+            buffer.getLong();
+            CRC32 crc = new CRC32();
+            long count = 0;
+            while(buffer.remaining() >= Short.BYTES) {
+                int length = Short.toUnsignedInt(buffer.getShort());
+                if(length == 0 || buffer.remaining() < length + Integer.BYTES)
+                    break;
+                ByteBuffer body = buffer.slice();
+                body.limit(length);
+                crc.reset();
+                crc.update(body.duplicate());
+                buffer.position(buffer.position() + length);
+                if(buffer.getInt() != (int) crc.getValue())
+                    break;
+                consumer.accept(GameRecord.decode(body));
+                count++;
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package tictactoe;
+
+import java.nio.ByteBuffer;
+
+// The level of a user is null
+class GameRecord {
+    // Type, two levels, size, win length, result, seed and move count, then a byte per move
+    private static final int FIXED_LENGTH = 6 + Long.BYTES + 1;
+    public static final int MAX_ENCODED_LENGTH = FIXED_LENGTH + BoardGeometry.MAX_SIZE * BoardGeometry.MAX_SIZE;
+
+    private final GameType gameType;
+    private final GameLevel[] levels;
+    private final long seed;
+    private final BoardGeometry geometry;
+    private final byte[] moves;
+    private final GameStatus result;
+
+    public GameRecord(GameType gameType, GameLevel[] levels, long seed, BoardGeometry geometry, byte[] moves,
+                      GameStatus result) {
+        this.gameType = gameType;
+        this.levels = levels;
+        this.seed = seed;
+        this.geometry = geometry;
+        this.moves = moves;
+        this.result = result;
+    }
+
+    public GameType getGameType() {
+        return gameType;
+    }
+
+    public GameLevel getLevel(int index) {
+        return levels[index];
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    public int getMoveCount() {
+        return moves.length;
+    }
+
+    public int getMove(int index) {
+        return moves[index] & 0xFF;
+    }
+
+    public GameStatus getResult() {
+        return result;
+    }
+
+    public int getEncodedLength() {
+        return FIXED_LENGTH + moves.length;
+    }
+
+    public void encode(ByteBuffer buffer) {
+        buffer.put((byte) gameType.ordinal())
+                .put(encodeLevel(levels[0])).put(encodeLevel(levels[1]))
+                .put((byte) geometry.getSize()).put((byte) geometry.getWinLength())
+                .put((byte) result.ordinal())
+                .putLong(seed)
+                .put((byte) moves.length).put(moves);
+    }
+
+    public static GameRecord decode(ByteBuffer buffer) {
+        GameType gameType = GameType.values()[buffer.get()];
+        GameLevel[] levels = {decodeLevel(buffer.get()), decodeLevel(buffer.get())};
+        BoardGeometry geometry = BoardGeometry.of(buffer.get(), buffer.get());
+        GameStatus result = GameStatus.values()[buffer.get()];
+        long seed = buffer.getLong();
+        byte[] moves = new byte[buffer.get() & 0xFF];
+        buffer.get(moves);
+        return new GameRecord(gameType, levels, seed, geometry, moves, result);
+    }
+
+    private static byte encodeLevel(GameLevel level) {
+        return (byte) (level == null ? 0 : level.ordinal() + 1);
+    }
+
+    private static GameLevel decodeLevel(byte level) {
+        return level == 0 ? null : GameLevel.values()[level - 1];
+    }
+}
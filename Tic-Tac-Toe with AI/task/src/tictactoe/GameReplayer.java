@@ -0,0 +1,84 @@
+package tictactoe;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Keeps a board and a search per geometry, so one per thread
+class GameReplayer {
+    // Win, draw or loss for the side to move, UNKNOWN when the search runs out before it is solved
+    static final int WIN = 1, DRAW = 0, LOSS = -1, UNKNOWN = Integer.MIN_VALUE;
+
+    private final MoveTable moveTable;
+    private final SearchLimits searchLimits;
+    private final Map<BoardGeometry, BoardUtilWithAILogic> boards = new HashMap<>();
+    private final GameAnalysis analysis = new GameAnalysis();
+    private final Element[] played = new Element[BoardGeometry.MAX_SIZE * BoardGeometry.MAX_SIZE];
+    private HardGameStrategy searchStrategy;
+
+    public GameReplayer(MoveTable moveTable) {
+        this(moveTable, SearchLimits.getDefault());
+    }
+
+    public GameReplayer(MoveTable moveTable, SearchLimits searchLimits) {
+        this.moveTable = moveTable;
+        this.searchLimits = searchLimits;
+    }
+
+    // The analysis is reused by the next call
+    public GameAnalysis replay(GameRecord record) {
+        BoardGeometry geometry = record.getGeometry();
+        BoardUtilWithAILogic boardUtil = boards.computeIfAbsent(geometry, this::createBoard);
+        BitBoard board = boardUtil.getBitBoard();
+        analysis.reset();
+        GameStatus status = GameStatus.GAME_NOT_FINISHED;
+        int playedCount = 0;
+        int value = getValue(board, BoardUtil.X_INDEX);
+        for(int ply = 0; ply < record.getMoveCount(); ply++) {
+            int cell = record.getMove(ply);
+            if(status != GameStatus.GAME_NOT_FINISHED || cell >= geometry.getCellCount() || !board.isEmpty(cell))
+                break;
+            int side = ply % 2 == 0 ? BoardUtil.X_INDEX : BoardUtil.O_INDEX;
+            Element element = Element.createElement(geometry.getRowIndex(cell), geometry.getColIndex(cell));
+            boardUtil.applyMove(element, BoardUtil.CHARS_ALLOWED[side]);
+            played[playedCount++] = element;
+            status = boardUtil.getGameStatus(element);
+            int nextValue;
+            int valueAfter;
+            if(status == GameStatus.GAME_NOT_FINISHED) {
+                nextValue = getValue(board, BitBoard.getOtherSide(side));
+                valueAfter = nextValue == UNKNOWN ? UNKNOWN : -nextValue;
+            } else {
+                nextValue = DRAW;
+                valueAfter = status == GameStatus.DRAW ? DRAW : WIN;
+            }
+            analysis.addMove(side, ply, value, valueAfter);
+            value = nextValue;
+        }
+        analysis.setValid(playedCount == record.getMoveCount() && status == record.getResult());
+        while(playedCount > 0)
+            boardUtil.undoMove(played[--playedCount]);
+        return analysis;
+    }
+
+    private BoardUtilWithAILogic createBoard(BoardGeometry geometry) {
+        BoardUtilWithAILogic boardUtil = new BoardUtilWithAILogic(geometry);
+        boardUtil.initEmptyBoard();
+        return boardUtil;
+    }
+
+    // A win or loss found at any depth stands, a draw only when the search got to the end of the game
+    private int getValue(BitBoard board, int side) {
+        if(moveTable != null && board.getGeometry() == MoveTable.GEOMETRY)
+            return Integer.signum(moveTable.getScore(MoveTable.getIndex(board)));
+        if(searchStrategy == null)
+            searchStrategy = new HardGameStrategy(SearchMode.ITERATIVE_DEEPENING,
+                    new TranspositionTable(TranspositionTable.DEFAULT_SIZE), searchLimits);
+        int score = searchStrategy.getBestMove(board, side).getScore();
+        if(score >= HardGameStrategy.WIN_SCORE_UNIT)
+            return WIN;
+        if(score <= -HardGameStrategy.WIN_SCORE_UNIT)
+            return LOSS;
+        int emptyCount = board.getGeometry().getCellCount() - board.getStoneCount();
+        return searchStrategy.getCompletedDepth() == emptyCount ? DRAW : UNKNOWN;
+    }
+}
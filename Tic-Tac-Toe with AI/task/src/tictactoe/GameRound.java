@@ -0,0 +1,77 @@
+package tictactoe;
+
+class GameRound {
+
+    private BoardUtil boardUtil;
+    private RoundType roundType;
+    private Element inputElement;
+    private char value;
+    private ComputerStrategy strategy;
+
+
+    public GameRound(BoardUtil boardUtil, RoundType roundType) {
+        this.boardUtil = boardUtil;
+        this.roundType = roundType;
+    }
+
+    public GameRound(BoardUtil boardUtil, RoundType roundType, ComputerStrategy strategy) {
+        this(boardUtil, roundType);
+        this.strategy = strategy;
+    }
+
+    public Element getNextMove() {
+        if(roundType != RoundType.MACHINE_ROUND)
+            getMoveFromUser();
+        return inputElement;
+    }
+
+    public BoardUtil getBoardUtil() {
+        return boardUtil;
+    }
+
+    public Element getNextMove(char value) {
+        if(roundType != RoundType.MACHINE_ROUND)
+            getMoveFromUser();
+        else
+            getMoveFromStrategy(value);
+        return inputElement;
+    }
+
+    public void getMoveFromStrategy(char value) {
+        inputElement = strategy.makeMove(this, value);
+    }
+
+    public void getMoveFromUser() {
+        boolean isInputValid = false;
+        Element element = null;
+        while(!isInputValid) {
+            System.out.print("Enter the coordinates: ");
+            String inputLine = boardUtil.getGame().getScanner().nextLine();
+            ElementError error = boardUtil.getBoardVerifier().isInputValid(inputLine);
+            if(error != null) {
+                System.out.println(error.getMessage(boardUtil.getGeometry()));
+                continue;
+            } else {
+                isInputValid = true;
+                inputElement = boardUtil.getBoardVerifier().getValidInput();
+            }
+        }
+    }
+
+    public Element getInput() {
+        return inputElement;
+    }
+
+    public void setInputElement(Element inputElement) {
+        this.inputElement = inputElement;
+    }
+
+    public char getValue() {
+        return value;
+    }
+
+    public void setValue(char value) {
+        this.value = value;
+    }
+
+}
@@ -0,0 +1,25 @@
+package tictactoe;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Every game gets its own generator, so any game can be replayed from its seed
+class GameSeeds {
+    public static final String PROPERTY = "tictactoe.seed";
+    private static final AtomicLong NEXT_GAME_ID = new AtomicLong();
+
+    public static long getMasterSeed() {
+        return Long.getLong(PROPERTY, ComputerStrategy.RANDOM_SEED);
+    }
+
+    public static long nextGameSeed() {
+        return getGameSeed(getMasterSeed(), NEXT_GAME_ID.getAndIncrement());
+    }
+
+    // The SplitMix64 finalizer, so neighbouring game ids give unrelated seeds
+    public static long getGameSeed(long masterSeed, long gameId) {
+        long seed = masterSeed + (gameId + 1) * 0x9E3779B97F4A7C15L;
+        seed = (seed ^ seed >>> 30) * 0xBF58476D1CE4E5B9L;
+        seed = (seed ^ seed >>> 27) * 0x94D049BB133111EBL;
+        return seed ^ seed >>> 31;
+    }
+}
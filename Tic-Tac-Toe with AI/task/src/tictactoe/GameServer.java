@@ -0,0 +1,580 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Serves the console command protocol over TCP. Usage: GameServer [port [workers]]
+public class GameServer {
+    public static final int DEFAULT_PORT = 7878;
+    public static final String WORKERS_PROPERTY = "tictactoe.server.workers";
+    public static final String QUEUE_PROPERTY = "tictactoe.server.queue";
+    public static final String REPORT_PROPERTY = "tictactoe.server.reportMillis";
+    public static final int MAX_LINE_LENGTH = 1024;
+    private static final int ACCEPT_BACKLOG = 1024;
+    private static final int READ_BUFFER_SIZE = 4096;
+
+    private final int port;
+    private final int workerCount;
+    private final int queueCapacity;
+    private final long reportMillis;
+    private final ServerStats stats = new ServerStats();
+    private final ExecutorService workers;
+    private final Queue<Runnable> completions = new ConcurrentLinkedQueue<>();
+    private final Deque<Connection> waitingForWorker = new ArrayDeque<>();
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+    private int movesInFlight;
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private volatile boolean isRunning;
+
+    public GameServer(int port) {
+        this(port, Integer.getInteger(WORKERS_PROPERTY, Runtime.getRuntime().availableProcessors()));
+    }
+
+    public GameServer(int port, int workerCount) {
+        this(port, workerCount, Integer.getInteger(QUEUE_PROPERTY, 1024), Long.getLong(REPORT_PROPERTY, 10_000));
+    }
+
+    // A reportMillis of 0 turns the stats line off
+    public GameServer(int port, int workerCount, int queueCapacity, long reportMillis) {
+        this.port = port;
+        this.workerCount = workerCount;
+        this.queueCapacity = queueCapacity;
+        this.reportMillis = reportMillis;
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "game-server-worker");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        GameServer server = args.length > 1 ? new GameServer(port, Integer.parseInt(args[1])) :
+                new GameServer(port);
+        server.open();
+        System.out.println("Listening on port " + server.getPort());
+        server.serve();
+    }
+
+    public void open() throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port), ACCEPT_BACKLOG);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        isRunning = true;
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public ServerStats getStats() {
+        return stats;
+    }
+
+    // Runs the event loop on the calling thread until stop is called
+    public void serve() throws IOException {
+        long nextReport = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(reportMillis);
+        try {
+            while(isRunning) {
+                selector.select(reportMillis > 0 ? reportMillis : 0);
+                Runnable completion;
+                while((completion = completions.poll()) != null)
+                    completion.run();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while(keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if(!key.isValid())
+                        continue;
+                    if(key.isAcceptable())
+                        accept();
+                    else {
+                        Connection connection = (Connection) key.attachment();
+                        if(key.isReadable())
+                            read(connection);
+                        if(key.isValid() && key.isWritable())
+                            write(connection);
+                    }
+                }
+                if(reportMillis > 0 && System.nanoTime() - nextReport >= 0) {
+                    System.out.println(stats.report());
+                    nextReport = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(reportMillis);
+                }
+            }
+        } finally {
+            for(SelectionKey key : selector.keys()) {
+                if(key.attachment() instanceof Connection)
+                    close((Connection) key.attachment());
+            }
+            serverChannel.close();
+            selector.close();
+            workers.shutdownNow();
+        }
+    }
+
+    public void stop() {
+        isRunning = false;
+        selector.wakeup();
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if(channel == null)
+            return;
+        channel.configureBlocking(false);
+        Connection connection = new Connection(channel, new GameSession(stats));
+        connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+        stats.connectionOpened();
+        send(connection);
+    }
+
+    private void read(Connection connection) {
+        int count;
+        try {
+            readBuffer.clear();
+            count = connection.channel.read(readBuffer);
+        } catch(IOException e) {
+            count = -1;
+        }
+        if(count < 0) {
+            close(connection);
+            return;
+        }
+        readBuffer.flip();
+        while(readBuffer.hasRemaining() && !connection.isClosed) {
+            char c = (char) (readBuffer.get() & 0xFF);
+            if(c == '\n') {
+                int length = connection.line.length();
+                if(length > 0 && connection.line.charAt(length - 1) == '\r')
+                    connection.line.setLength(length - 1);
+                connection.session.handleLine(connection.line.toString());
+                connection.line.setLength(0);
+                afterStep(connection);
+            } else if(connection.line.length() < MAX_LINE_LENGTH)
+                connection.line.append(c);
+            else
+                close(connection);
+        }
+    }
+
+    private void afterStep(Connection connection) {
+        send(connection);
+        if(connection.isClosed)
+            return;
+        if(connection.session.isClosed())
+            connection.isClosing = true;
+        else if(connection.session.isWaitingForMachine() && !connection.isMoveScheduled) {
+            connection.isMoveScheduled = true;
+            if(movesInFlight < workerCount + queueCapacity)
+                submitMove(connection);
+            else
+                waitingForWorker.add(connection);
+        }
+        if(connection.isClosing && connection.pendingWrites.isEmpty())
+            close(connection);
+        else
+            updateInterestOps(connection);
+    }
+
+    // The session leaves its board alone until the move comes back, so the worker can read it
+    private void submitMove(Connection connection) {
+        Runnable task = () -> {
+            try {
+                Element move = connection.session.chooseMachineMove();
+                completions.add(() -> finishMove(connection, move));
+            } catch(RuntimeException e) {
+                stats.moveFailed();
+                completions.add(() -> finishMove(connection, null));
+            }
+            selector.wakeup();
+        };
+        try {
+            workers.execute(task);
+            movesInFlight++;
+        } catch(RejectedExecutionException e) {
+            waitingForWorker.addFirst(connection);
+        }
+    }
+
+    private void finishMove(Connection connection, Element move) {
+        movesInFlight--;
+        int waitingCount = waitingForWorker.size();
+        while(waitingCount-- > 0 && movesInFlight < workerCount + queueCapacity) {
+            Connection waiting = waitingForWorker.poll();
+            if(!waiting.isClosed)
+                submitMove(waiting);
+        }
+        connection.isMoveScheduled = false;
+        if(connection.isClosed)
+            return;
+        if(move == null)
+            connection.session.failMachineMove();
+        else
+            connection.session.applyMachineMove(move);
+        afterStep(connection);
+    }
+
+    private void send(Connection connection) {
+        String output = connection.session.takeOutput();
+        if(!output.isEmpty()) {
+            connection.pendingWrites.add(ByteBuffer.wrap(output.getBytes(StandardCharsets.UTF_8)));
+            write(connection);
+        }
+    }
+
+    private void write(Connection connection) {
+        try {
+            while(!connection.pendingWrites.isEmpty()) {
+                ByteBuffer buffer = connection.pendingWrites.peek();
+                connection.channel.write(buffer);
+                if(buffer.hasRemaining()) {
+                    updateInterestOps(connection);
+                    return;
+                }
+                connection.pendingWrites.poll();
+            }
+            if(connection.isClosing)
+                close(connection);
+            else
+                updateInterestOps(connection);
+        } catch(IOException e) {
+            close(connection);
+        }
+    }
+
+    // Reading stops while a machine move is searched, so the lines queued in the session are at most one read
+    // buffer's worth; the rest wait in the socket
+    private void updateInterestOps(Connection connection) {
+        int interestOps = connection.session.isWaitingForMachine() ? 0 : SelectionKey.OP_READ;
+        if(!connection.pendingWrites.isEmpty())
+            interestOps |= SelectionKey.OP_WRITE;
+        connection.key.interestOps(interestOps);
+    }
+
+    private void close(Connection connection) {
+        if(connection.isClosed)
+            return;
+        connection.isClosed = true;
+        connection.session.close();
+        connection.key.cancel();
+        try {
+            connection.channel.close();
+        } catch(IOException ignored) {
+        }
+        stats.connectionClosed();
+    }
+}
+
+// Only the selector thread touches the fields
+class Connection {
+    final SocketChannel channel;
+    final GameSession session;
+    final StringBuilder line = new StringBuilder();
+    final Queue<ByteBuffer> pendingWrites = new ArrayDeque<>();
+    SelectionKey key;
+    boolean isMoveScheduled;
+    boolean isClosing;
+    boolean isClosed;
+
+    Connection(SocketChannel channel, GameSession session) {
+        this.channel = channel;
+        this.session = session;
+    }
+}
+
+// The console game loop, fed one input line at a time
+class GameSession {
+    private final ServerStats stats;
+    private final StringBuilder output = new StringBuilder();
+    // Lines that came in while a machine move was searched; the server stops reading then, so one read buffer at most
+    private final Deque<String> pendingLines = new ArrayDeque<>();
+    private BoardUtilWithAILogic boardUtil;
+    private ComputerStrategy[] strategies;
+    private GameLevel[] levels;
+    private long seed;
+    private byte[] moves;
+    private int moveCount;
+    private GameStatus status = GameStatus.GAME_NOT_FINISHED;
+    private boolean isInputX;
+    private boolean isInGame;
+    private boolean isWaitingForMachine;
+    private boolean isClosed;
+
+    public GameSession(ServerStats stats) {
+        this.stats = stats;
+        output.append("Input command: ");
+    }
+
+    public void handleLine(String inputLine) {
+        if(isWaitingForMachine) {
+            pendingLines.add(inputLine);
+            return;
+        }
+        if(isClosed)
+            return;
+        if(isInGame)
+            playUserMove(inputLine);
+        else
+            runCommand(inputLine);
+    }
+
+    private void runCommand(String inputLine) {
+        GameCommand command = GameCommand.parse(inputLine);
+        if(command.isExit()) {
+            isClosed = true;
+            return;
+        }
+        // A simulation would hold a worker for its whole run, so the server only plays games
+        if(!command.isValid() || command.isSimulate()) {
+            output.append("Bad parameters!").append(System.lineSeparator()).append("Input command: ");
+            return;
+        }
+        if(command.isStats()) {
+            output.append(EngineMetrics.ENABLED ? EngineMetrics.snapshot().format() :
+                    "Metrics are off" + System.lineSeparator()).append("Input command: ");
+            return;
+        }
+        GameFactory factory = new GameFactory(command.getGeometry());
+        seed = GameSeeds.nextGameSeed();
+        SplittableRandom random = new SplittableRandom(seed);
+        strategies = new ComputerStrategy[2];
+        levels = new GameLevel[2];
+        for(int i = 0; i < strategies.length; i++) {
+            String player = command.getPlayer(i);
+            if(!player.equals("user")) {
+                levels[i] = factory.getGameLevel(player);
+                strategies[i] = factory.getStrategy(levels[i]);
+                strategies[i].setRandom(random);
+            }
+        }
+        moves = new byte[factory.getGeometry().getCellCount()];
+        moveCount = 0;
+        boardUtil = new BoardUtilWithAILogic(factory.getGeometry());
+        boardUtil.initEmptyBoard();
+        status = GameStatus.GAME_NOT_FINISHED;
+        isInputX = true;
+        isInGame = true;
+        stats.gameStarted();
+        FlightEvents.gameStarted(getGameType(), boardUtil.getGeometry());
+        BufferedBoardRenderer.appendFrame(boardUtil, output);
+        nextTurn();
+    }
+
+    private void playUserMove(String inputLine) {
+        BoardVerifier boardVerifier = boardUtil.getBoardVerifier();
+        ElementError error = boardVerifier.isInputValid(inputLine);
+        if(error != null) {
+            output.append(error.getMessage(boardUtil.getGeometry())).append(System.lineSeparator())
+                    .append("Enter the coordinates: ");
+            return;
+        }
+        playMove(boardVerifier.getValidInput());
+    }
+
+    private void playMove(Element element) {
+        char value = getValueToPlay();
+        boardUtil.updateBoard(element, value, strategies[isInputX ? 0 : 1] == null ?
+                RoundType.USER_ROUND : RoundType.MACHINE_ROUND);
+        BufferedBoardRenderer.appendFrame(boardUtil, output);
+        status = boardUtil.getGameStatus(element);
+        moves[moveCount++] = (byte) boardUtil.getGeometry().getCell(element);
+        isInputX = !isInputX;
+        stats.movePlayed();
+        nextTurn();
+    }
+
+    private void nextTurn() {
+        if(status != GameStatus.GAME_NOT_FINISHED) {
+            output.append(status.getMessage()).append(System.lineSeparator()).append("Input command: ");
+            recordGame();
+            endGame();
+            return;
+        }
+        ComputerStrategy strategy = strategies[isInputX ? 0 : 1];
+        if(strategy == null)
+            output.append("Enter the coordinates: ");
+        else {
+            output.append("Making move level \"").append(strategy.getLevel().getLevel()).append('"')
+                    .append(System.lineSeparator());
+            isWaitingForMachine = true;
+        }
+    }
+
+    private char getValueToPlay() {
+        return BoardUtil.CHARS_ALLOWED[isInputX ? BoardUtil.X_INDEX : BoardUtil.O_INDEX];
+    }
+
+    public Element chooseMachineMove() {
+        ComputerStrategy strategy = strategies[isInputX ? 0 : 1];
+        GameRound round = new GameRound(boardUtil, RoundType.MACHINE_ROUND, strategy);
+        return strategy.playMove(round, getValueToPlay());
+    }
+
+    public void applyMachineMove(Element element) {
+        isWaitingForMachine = false;
+        playMove(element);
+        while(!isWaitingForMachine && !isClosed && !pendingLines.isEmpty())
+            handleLine(pendingLines.poll());
+    }
+
+    // The worker is done with the board, so the game can be ended in full
+    public void failMachineMove() {
+        isWaitingForMachine = false;
+        pendingLines.clear();
+        output.append("The machine move failed").append(System.lineSeparator());
+        isClosed = true;
+    }
+
+    private void recordGame() {
+        if(EngineMetrics.ENABLED) {
+            for(ComputerStrategy strategy : strategies) {
+                if(strategy != null)
+                    strategy.flushMetrics();
+            }
+            EngineMetrics.gameFinished(status, moveCount);
+        }
+        FlightEvents.gameEnded(getGameType(), status, moveCount);
+        GameLog log = GameLog.getDefault();
+        if(log == null)
+            return;
+        log.append(new GameRecord(getGameType(), levels, seed, boardUtil.getGeometry(),
+                Arrays.copyOf(moves, moveCount), status));
+    }
+
+    private GameType getGameType() {
+        return levels[0] == null ?
+                (levels[1] == null ? GameType.USER_USER : GameType.USER_MACHINE) :
+                (levels[1] == null ? GameType.MACHINE_USER : GameType.MACHINE_MACHINE);
+    }
+
+    private void endGame() {
+        if(isInGame)
+            stats.gameEnded();
+        isInGame = false;
+        boardUtil = null;
+        strategies = null;
+        moves = null;
+    }
+
+    public void close() {
+        isClosed = true;
+        if(!isWaitingForMachine)
+            endGame();
+        else if(isInGame) {
+            // The worker may still read the board, so only the count is updated
+            stats.gameEnded();
+            isInGame = false;
+        }
+    }
+
+    public String takeOutput() {
+        String result = output.toString();
+        output.setLength(0);
+        return result;
+    }
+
+    public boolean isWaitingForMachine() {
+        return isWaitingForMachine && !isClosed;
+    }
+
+    public boolean isClosed() {
+        return isClosed;
+    }
+}
+
+class ServerStats {
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final LongAdder acceptedConnections = new LongAdder();
+    private final AtomicInteger activeGames = new AtomicInteger();
+    private final LongAdder finishedGames = new LongAdder();
+    private final LongAdder moves = new LongAdder();
+    private final LongAdder failedMoves = new LongAdder();
+    private final AtomicLong lastReportTime = new AtomicLong(System.nanoTime());
+    private final AtomicLong lastReportMoves = new AtomicLong();
+
+    public void connectionOpened() {
+        acceptedConnections.increment();
+        openConnections.incrementAndGet();
+    }
+
+    public void connectionClosed() {
+        openConnections.decrementAndGet();
+    }
+
+    public void gameStarted() {
+        activeGames.incrementAndGet();
+    }
+
+    public void gameEnded() {
+        activeGames.decrementAndGet();
+        finishedGames.increment();
+    }
+
+    public void movePlayed() {
+        moves.increment();
+    }
+
+    // A strategy threw on a worker; the session is told and closed
+    public void moveFailed() {
+        failedMoves.increment();
+    }
+
+    public int getOpenConnections() {
+        return openConnections.get();
+    }
+
+    public long getAcceptedConnections() {
+        return acceptedConnections.sum();
+    }
+
+    public int getActiveGames() {
+        return activeGames.get();
+    }
+
+    public long getFinishedGames() {
+        return finishedGames.sum();
+    }
+
+    public long getMoveCount() {
+        return moves.sum();
+    }
+
+    public long getFailedMoves() {
+        return failedMoves.sum();
+    }
+
+    public String report() {
+        long now = System.nanoTime(), moveCount = moves.sum();
+        long elapsed = now - lastReportTime.getAndSet(now);
+        long newMoves = moveCount - lastReportMoves.getAndSet(moveCount);
+        double movesPerSecond = elapsed == 0 ? 0 : newMoves * 1e9 / elapsed;
+        return String.format("connections: %d open, %d accepted; games: %d active, %d finished; " +
+                        "moves per second: %.1f, failed moves: %d", getOpenConnections(), getAcceptedConnections(),
+                getActiveGames(), getFinishedGames(), movesPerSecond, getFailedMoves());
+    }
+}
@@ -0,0 +1,108 @@
+package tictactoe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Headless machine games over a thread pool
+class GameSimulator {
+    private final GameLevel[] levels;
+    private final BoardGeometry geometry;
+    private final int threadCount;
+
+    public GameSimulator(GameLevel level1, GameLevel level2, BoardGeometry geometry) {
+        this(level1, level2, geometry, Runtime.getRuntime().availableProcessors());
+    }
+
+    public GameSimulator(GameLevel level1, GameLevel level2, BoardGeometry geometry, int threadCount) {
+        this.levels = new GameLevel[]{level1, level2};
+        this.geometry = geometry;
+        this.threadCount = threadCount;
+    }
+
+    // Game i is seeded from i, so the totals do not depend on the thread count
+    public SimulationResult simulate(int gameCount) {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        long masterSeed = GameSeeds.getMasterSeed();
+        long startTime = System.nanoTime();
+        try {
+            List<Future<SimulationResult>> futures = new ArrayList<>();
+            for(int i = 0; i < threadCount; i++) {
+                int firstGameId = i;
+                futures.add(executor.submit(() -> playGames(masterSeed, firstGameId, gameCount)));
+            }
+            SimulationResult result = new SimulationResult();
+            for(Future<SimulationResult> future : futures)
+                result.add(future.get());
+            result.setElapsedNanos(System.nanoTime() - startTime);
+            return result;
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation was interrupted", e);
+        } catch(ExecutionException e) {
+            throw new IllegalStateException("Simulated game failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SimulationResult playGames(long masterSeed, int firstGameId, int gameCount) {
+        ComputerStrategy[] strategies = createStrategies();
+        SimulationResult result = new SimulationResult();
+        for(int gameId = firstGameId; gameId < gameCount; gameId += threadCount)
+            playGame(strategies, GameSeeds.getGameSeed(masterSeed, gameId), result);
+        return result;
+    }
+
+    // They keep search state, so one pair per thread
+    public ComputerStrategy[] createStrategies() {
+        GameFactory factory = new GameFactory(geometry);
+        return new ComputerStrategy[]{factory.getStrategy(levels[0]), factory.getStrategy(levels[1])};
+    }
+
+    public void playGame(ComputerStrategy[] strategies, long seed, SimulationResult result) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for(ComputerStrategy strategy : strategies)
+            strategy.setRandom(random);
+        FlightEvents.gameStarted(GameType.MACHINE_MACHINE, geometry);
+        BoardUtilWithAILogic boardUtil = new BoardUtilWithAILogic(geometry);
+        boardUtil.initEmptyBoard();
+        GameStatus status = GameStatus.GAME_NOT_FINISHED;
+        boolean isInputX = true;
+        int moveCount = 0;
+        GameLog log = GameLog.getDefault();
+        byte[] moves = log == null ? null : new byte[geometry.getCellCount()];
+
+        while(status == GameStatus.GAME_NOT_FINISHED) {
+            char value = isInputX ? BoardUtil.CHARS_ALLOWED[BoardUtil.X_INDEX] :
+                    BoardUtil.CHARS_ALLOWED[BoardUtil.O_INDEX];
+            ComputerStrategy strategy = isInputX ? strategies[0] : strategies[1];
+
+            GameRound round = new GameRound(boardUtil, RoundType.MACHINE_ROUND, strategy);
+            round.setInputElement(strategy.playMove(round, value));
+            round.setValue(value);
+
+            boardUtil.updateBoard(round.getInput(), value, RoundType.MACHINE_ROUND);
+            status = boardUtil.getGameStatus(round);
+            isInputX = !isInputX;
+            if(moves != null)
+                moves[moveCount] = (byte) geometry.getCell(round.getInput());
+            moveCount++;
+        }
+        result.addGame(status, moveCount);
+        FlightEvents.gameEnded(GameType.MACHINE_MACHINE, status, moveCount);
+        if(EngineMetrics.ENABLED) {
+            for(ComputerStrategy strategy : strategies)
+                strategy.flushMetrics();
+            EngineMetrics.gameFinished(status, moveCount);
+        }
+        if(log != null)
+            log.append(new GameRecord(GameType.MACHINE_MACHINE, levels.clone(), seed, geometry,
+                    Arrays.copyOf(moves, moveCount), status));
+    }
+}
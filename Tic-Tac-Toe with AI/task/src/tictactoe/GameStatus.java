@@ -0,0 +1,17 @@
+package tictactoe;
+
+enum GameStatus {
+    GAME_NOT_FINISHED("Game not finished"),
+        DRAW("Draw"),
+        X_WINS("X wins"),
+        O_WINS("O wins");
+    private String message;
+
+    GameStatus(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return this.message;
+    }
+}
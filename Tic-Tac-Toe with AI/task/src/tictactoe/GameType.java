@@ -0,0 +1,5 @@
+package tictactoe;
+
+enum GameType {
+    FILL_BOARD_AND_GET_INPUT, USER_MACHINE, MACHINE_USER, USER_USER, MACHINE_MACHINE;
+}
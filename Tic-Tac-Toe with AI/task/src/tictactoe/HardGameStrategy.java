@@ -0,0 +1,458 @@
+package tictactoe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+class HardGameStrategy extends ConcreteComputerStrategy {
+    // A win is worth this much per cell left empty, so heuristic scores always stay below any win
+    public static final int WIN_SCORE_UNIT = 1 << 11;
+    static final int INFINITE_SCORE = 1 << 19;
+    private static final int[] LINE_WEIGHTS = {0, 1, 4, 16, 64, 256, 1024};
+    // How many nodes are searched between two looks at the clock
+    private static final int LIMIT_CHECK_INTERVAL = 1 << 10;
+    public static final String PARALLELISM_PROPERTY = "tictactoe.hard.parallelism";
+    // Plies below the root that a parallel search still splits into a task per move
+    public static final int SPLIT_PLIES = 2;
+    private static final ForkJoinPool SHARED_POOL = new ForkJoinPool(
+            Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors()));
+
+    private final SearchMode searchMode;
+    private final TranspositionTable transpositionTable;
+    private final SearchLimits searchLimits;
+    private final ForkJoinPool pool;
+    // The strategy a parallel worker searches for. Workers share its abort flag and node count.
+    private final HardGameStrategy owner;
+    private final LongAdder workerNodeCount = new LongAdder();
+    private char myChar;
+    private long nodeCount;
+    // Probes of this search, added to the table's counters when it ends
+    private long tableHitCount;
+    private long tableMissCount;
+    private int completedDepth;
+    private int bestMoveMask;
+    // The mask of the last rootCall, kept in bestMoveMask once its depth is completed
+    private int rootBestMask;
+    private long searchStartTime;
+    private volatile boolean isSearchAborted;
+    private volatile boolean isStopped;
+
+    public HardGameStrategy() {
+        this(SearchMode.ITERATIVE_DEEPENING);
+    }
+
+    public HardGameStrategy(SearchMode searchMode) {
+        this(searchMode, TranspositionTable.getSharedTable());
+    }
+
+    public HardGameStrategy(SearchMode searchMode, TranspositionTable transpositionTable) {
+        this(searchMode, transpositionTable, SearchLimits.getDefault());
+    }
+
+    public HardGameStrategy(SearchMode searchMode, TranspositionTable transpositionTable, SearchLimits searchLimits) {
+        this(searchMode, transpositionTable, searchLimits, SHARED_POOL);
+    }
+
+    public HardGameStrategy(SearchMode searchMode, TranspositionTable transpositionTable, SearchLimits searchLimits,
+                            ForkJoinPool pool) {
+        this.searchMode = searchMode;
+        this.transpositionTable = transpositionTable;
+        this.searchLimits = searchLimits;
+        this.pool = pool;
+        this.owner = this;
+    }
+
+    private HardGameStrategy(HardGameStrategy owner) {
+        this.searchMode = owner.searchMode;
+        this.transpositionTable = owner.transpositionTable;
+        this.searchLimits = owner.searchLimits;
+        this.pool = owner.pool;
+        this.owner = owner;
+        this.searchStartTime = owner.searchStartTime;
+    }
+
+    public SearchMode getSearchMode() {
+        return searchMode;
+    }
+
+    public TranspositionTable getTranspositionTable() {
+        return transpositionTable;
+    }
+
+    public SearchLimits getSearchLimits() {
+        return searchLimits;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    @Override
+    public long getNodeCount() {
+        return nodeCount;
+    }
+
+    // In moves from the position searched
+    @Override
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    // The cells that score as well as the move the last getBestMove chose, that move being the first of them; 0 when
+    // the board has more cells than an int mask holds
+    public int getBestMoveMask() {
+        return bestMoveMask;
+    }
+
+    // The score is seen from the side to move
+    public Move getBestMove(BitBoard board, int side) {
+        this.nodeCount = 0;
+        this.tableHitCount = 0;
+        this.tableMissCount = 0;
+        workerNodeCount.reset();
+        BitBoard searchBoard = new BitBoard(board);
+        int maxDepth = board.getGeometry().getCellCount() - board.getStoneCount();
+        Move move;
+        if(searchMode == SearchMode.ALPHA_BETA) {
+            isSearchAborted = false;
+            completedDepth = maxDepth;
+            move = rootCall(searchBoard, side, maxDepth, this::scoreMovesInOrder);
+            bestMoveMask = rootBestMask;
+        } else {
+            move = iterativeDeepeningCall(searchBoard, side, maxDepth);
+            nodeCount += workerNodeCount.sum();
+        }
+        transpositionTable.addProbeCounts(tableHitCount, tableMissCount);
+        return move;
+    }
+
+    @Override
+    public GameLevel getLevel() {
+        return GameLevel.HARD;
+    }
+
+    @Override
+    public Element chooseMove(GameRound round, char value) {
+        this.myChar = value;
+        this.nodeCount = 0;
+
+        BoardUtilWithAILogic boardUtilWithAILogic = (BoardUtilWithAILogic)round.getBoardUtil();
+        if(searchMode != SearchMode.MINIMAX)
+            return getBestMove(boardUtilWithAILogic.getBitBoard(), BitBoard.getSide(value)).getElement();
+        BoardUtilWithAILogic newBoardUtilWithAILogic = new BoardUtilWithAILogic(boardUtilWithAILogic);
+        completedDepth = boardUtilWithAILogic.getEmptySpaces().size();
+        Move move = miniMaxCall(newBoardUtilWithAILogic, null, 0, value);
+        return move.getElement();
+
+    }
+
+    private Move miniMaxCall(BoardUtilWithAILogic boardUtilWithAILogic, Element input, int depth, char value) {
+        depth+=1;
+        nodeCount++;
+        if(input != null) {
+            GameStatus status = boardUtilWithAILogic.getGameStatus(input);
+            //System.out.println("Is there a win? "+status);
+            if(status == GameStatus.X_WINS && myChar == BoardUtil.CHARS_ALLOWED[BoardUtil.X_INDEX] ||
+                    status == GameStatus.O_WINS && myChar == BoardUtil.CHARS_ALLOWED[BoardUtil.O_INDEX]) {
+                return Move.getMove(input, 10-depth);
+            } else if(status == GameStatus.X_WINS && myChar == BoardUtil.CHARS_ALLOWED[BoardUtil.O_INDEX] ||
+                    status == GameStatus.O_WINS && myChar == BoardUtil.CHARS_ALLOWED[BoardUtil.X_INDEX]) {
+                return Move.getMove(input, depth-10);
+            } else if(boardUtilWithAILogic.getBoardStatistics()[BoardUtil.EMPTY_SPACE_INDEX] == 0) {
+                return Move.getMove(input, 0);
+            }
+        }
+        List<Move> moves = new ArrayList<>();
+        BoardGeometry geometry = boardUtilWithAILogic.getGeometry();
+        EmptyCellPool emptyCells = boardUtilWithAILogic.getEmptyCellPool();
+        for(int cell = emptyCells.nextCell(0); cell >= 0; cell = emptyCells.nextCell(cell + 1)) {
+            Element element = Element.createElement(geometry.getRowIndex(cell), geometry.getColIndex(cell));
+            boardUtilWithAILogic.applyMove(element, value);
+            Move result = miniMaxCall(boardUtilWithAILogic, element, depth, flipCharacter(value));
+            boardUtilWithAILogic.undoMove(element);
+            moves.add(Move.getMove(element, result.getScore()));
+        }
+        Move bestMove = null;
+        if(value == myChar) {
+            int bestScore = -100;
+
+            for(Move move : moves) {
+                if(move.getScore() > bestScore) {
+                    bestScore = move.getScore();
+                    bestMove = move;
+                }
+            }
+        } else {
+            int bestScore = 100;
+            for(Move move : moves) {
+                if(move.getScore() < bestScore) {
+                    bestScore = move.getScore();
+                    bestMove = move;
+                }
+            }
+        }
+        return bestMove;
+    }
+
+    // The first depth always finishes, so there is always a move
+    private Move iterativeDeepeningCall(BitBoard board, int side, int maxDepth) {
+        searchStartTime = System.nanoTime();
+        isSearchAborted = false;
+        completedDepth = 0;
+        RootMoveSearch rootMoveSearch = searchMode == SearchMode.PARALLEL ? this::scoreMovesInParallel :
+                this::scoreMovesInOrder;
+        Move bestMove = null;
+        for(int depth = 1; depth <= maxDepth; depth++) {
+            Move move = rootCall(board, side, depth, rootMoveSearch);
+            if(isSearchAborted && bestMove != null)
+                break;
+            bestMove = move;
+            bestMoveMask = rootBestMask;
+            completedDepth = depth;
+            if(isSolved(board, move.getScore(), depth))
+                break;
+        }
+        return bestMove;
+    }
+
+    // A table win could hide an equally fast one on an earlier cell, so wins count only within the depth
+    private static boolean isSolved(BitBoard board, int score, int depth) {
+        if(score <= -WIN_SCORE_UNIT)
+            return true;
+        int movesToWin = board.getGeometry().getCellCount() + 1 - score / WIN_SCORE_UNIT - board.getStoneCount();
+        return score >= WIN_SCORE_UNIT && movesToWin <= depth;
+    }
+
+    // Ties go to the first cell, as in miniMaxCall, so solved positions keep every best move in the table
+    private Move rootCall(BitBoard board, int side, int depth, RootMoveSearch rootMoveSearch) {
+        nodeCount++;
+        BoardGeometry geometry = board.getGeometry();
+        boolean isMaskStored = geometry.getCellCount() <= Integer.SIZE;
+        int winningCell = -1;
+        rootBestMask = 0;
+        for(int cell = 0; cell < geometry.getCellCount(); cell++) {
+            if(board.isEmpty(cell) && board.isWinningMove(cell, side)) {
+                winningCell = winningCell < 0 ? cell : winningCell;
+                if(!isMaskStored)
+                    break;
+                rootBestMask |= 1 << cell;
+            }
+        }
+        if(winningCell >= 0)
+            return getMove(geometry, winningCell, getWinScore(geometry, board.getStoneCount() + 1));
+
+        boolean isComplete = depth >= geometry.getCellCount() - board.getStoneCount();
+        int symmetry = board.getCanonicalSymmetry();
+        long key = board.getSymmetricHash(symmetry) ^ geometry.getSideKey(side);
+        long entry = probe(key);
+        if(entry != TranspositionTable.NO_ENTRY && TranspositionTable.hasAllBestMoves(entry)) {
+            rootBestMask = geometry.getSymmetricMask(geometry.getInverseSymmetry(symmetry),
+                    TranspositionTable.getBestMoves(entry));
+            return getMove(geometry, Integer.numberOfTrailingZeros(rootBestMask), TranspositionTable.getScore(entry));
+        }
+
+        int[] moveScores = new int[geometry.getCellCount()];
+        Arrays.fill(moveScores, -INFINITE_SCORE);
+        rootMoveSearch.scoreMoves(board, side, depth, moveScores);
+        // Merged in cell order, so the cell does not depend on the order or the threads the moves were searched in
+        int bestCell = -1, bestScore = -INFINITE_SCORE, bestMask = 0;
+        for(int cell = 0; cell < geometry.getCellCount(); cell++) {
+            if(!board.isEmpty(cell))
+                continue;
+            if(bestCell < 0 || moveScores[cell] > bestScore) {
+                bestScore = moveScores[cell];
+                bestCell = cell;
+                bestMask = 0;
+            }
+            if(moveScores[cell] == bestScore)
+                bestMask |= isMaskStored ? 1 << cell : 0;
+        }
+        if(isComplete && isMaskStored && !isSearchAborted)
+            transpositionTable.store(key, bestScore, TranspositionTable.EXACT, TranspositionTable.COMPLETE_DEPTH,
+                    geometry.getSymmetricMask(symmetry, bestMask), true);
+        rootBestMask = bestMask;
+        return getMove(geometry, bestCell, bestScore);
+    }
+
+    // Blocks first; each later move is searched just below the best score so far, which keeps ties exact
+    private void scoreMovesInOrder(BitBoard board, int side, int depth, int[] moveScores) {
+        int otherSide = BitBoard.getOtherSide(side);
+        int alpha = -INFINITE_SCORE;
+        for(int phase = 1; phase < 3; phase++) {
+            for(int cell : board.getGeometry().getOrderedCells()) {
+                if(!isInPhase(board, cell, phase, -1, otherSide))
+                    continue;
+                board.place(cell, side);
+                int score = -alphaBeta(board, otherSide, -INFINITE_SCORE, -alpha, depth - 1);
+                board.clear(cell);
+                if(isSearchAborted)
+                    return;
+                moveScores[cell] = score;
+                alpha = Math.max(alpha, score - 1);
+            }
+        }
+    }
+
+    private void scoreMovesInParallel(BitBoard board, int side, int depth, int[] moveScores) {
+        pool.invoke(new ParallelSearchTask(this, board, side, depth, moveScores));
+    }
+
+    // Each worker has its own node count and search state
+    int searchInWorker(BitBoard board, int side, int alpha, int beta, int depth) {
+        HardGameStrategy worker = new HardGameStrategy(this);
+        int score = worker.alphaBeta(board, side, alpha, beta, depth);
+        workerNodeCount.add(worker.nodeCount);
+        transpositionTable.addProbeCounts(worker.tableHitCount, worker.tableMissCount);
+        return score;
+    }
+
+    // Also makes later searches of this strategy end after their first depth
+    public void stop() {
+        isStopped = true;
+        isSearchAborted = true;
+    }
+
+    public boolean isStopped() {
+        return isStopped;
+    }
+
+    void addWorkerNodes(long count) {
+        workerNodeCount.add(count);
+    }
+
+    boolean isSearchAborted() {
+        return isSearchAborted;
+    }
+
+    private long probe(long key) {
+        long entry = transpositionTable.probe(key);
+        if(entry != TranspositionTable.NO_ENTRY)
+            tableHitCount++;
+        else
+            tableMissCount++;
+        return entry;
+    }
+
+    private int alphaBeta(BitBoard board, int side, int alpha, int beta, int depth) {
+        nodeCount++;
+        if((nodeCount & LIMIT_CHECK_INTERVAL - 1) == 0)
+            checkSearchLimits();
+        if(owner.isSearchAborted)
+            return 0;
+        BoardGeometry geometry = board.getGeometry();
+        if(board.isFull())
+            return 0;
+        int otherSide = BitBoard.getOtherSide(side);
+        for(int cell = 0; cell < geometry.getCellCount(); cell++) {
+            if(board.isEmpty(cell) && board.isWinningMove(cell, side))
+                return getWinScore(geometry, board.getStoneCount() + 1);
+        }
+        if(depth <= 0)
+            return evaluate(board, side);
+
+        // A search deep enough to reach the end of every line of play is good for any depth
+        int storedDepth = depth >= geometry.getCellCount() - board.getStoneCount() ?
+                TranspositionTable.COMPLETE_DEPTH : depth;
+        int symmetry = board.getCanonicalSymmetry();
+        long key = board.getSymmetricHash(symmetry) ^ geometry.getSideKey(side);
+        long entry = probe(key);
+        int hashCell = -1;
+        if(entry != TranspositionTable.NO_ENTRY) {
+            int score = TranspositionTable.getScore(entry);
+            if(TranspositionTable.getDepth(entry) >= storedDepth) {
+                switch(TranspositionTable.getBound(entry)) {
+                    case TranspositionTable.EXACT:
+                        return score;
+                    case TranspositionTable.LOWER_BOUND:
+                        if(score >= beta)
+                            return score;
+                        break;
+                    case TranspositionTable.UPPER_BOUND:
+                        if(score <= alpha)
+                            return score;
+                        break;
+                }
+            }
+            if(!TranspositionTable.hasAllBestMoves(entry))
+                hashCell = geometry.getSymmetricCell(geometry.getInverseSymmetry(symmetry),
+                        TranspositionTable.getBestMoves(entry));
+        }
+
+        int bestCell = -1, bestScore = -INFINITE_SCORE;
+        int searchAlpha = alpha;
+        search:
+        for(int phase = 0; phase < 3; phase++) {
+            for(int cell : geometry.getOrderedCells()) {
+                if(!isInPhase(board, cell, phase, hashCell, otherSide))
+                    continue;
+                board.place(cell, side);
+                int score = -alphaBeta(board, otherSide, -beta, -searchAlpha, depth - 1);
+                board.clear(cell);
+                if(owner.isSearchAborted)
+                    return 0;
+                if(score > bestScore) {
+                    bestScore = score;
+                    bestCell = cell;
+                    if(score > searchAlpha)
+                        searchAlpha = score;
+                    if(searchAlpha >= beta)
+                        break search;
+                }
+            }
+        }
+        int bound = bestScore <= alpha ? TranspositionTable.UPPER_BOUND :
+                bestScore >= beta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+        transpositionTable.store(key, bestScore, bound, storedDepth, geometry.getSymmetricCell(symmetry, bestCell), false);
+        return bestScore;
+    }
+
+    private void checkSearchLimits() {
+        if(owner.isStopped) {
+            owner.isSearchAborted = true;
+            return;
+        }
+        if(searchMode == SearchMode.ALPHA_BETA)
+            return;
+        long maxNodes = searchLimits.getMaxNodes(), maxTimeMillis = searchLimits.getMaxTimeMillis();
+        long searchedNodes = owner == this ? nodeCount : owner.workerNodeCount.sum() + nodeCount;
+        if(maxNodes > 0 && searchedNodes >= maxNodes ||
+                maxTimeMillis > 0 && System.nanoTime() - searchStartTime >= maxTimeMillis * 1_000_000)
+            owner.isSearchAborted = true;
+    }
+
+    // Every line open to only one side counts for it, more the more marks it has
+    static int evaluate(BitBoard board, int side) {
+        BoardGeometry geometry = board.getGeometry();
+        int otherSide = BitBoard.getOtherSide(side);
+        int maxWeightIndex = LINE_WEIGHTS.length - 1;
+        int score = 0;
+        for(int line = 0; line < geometry.getLineCount(); line++) {
+            int ownCount = board.getLineCount(side, line), otherCount = board.getLineCount(otherSide, line);
+            if(otherCount == 0)
+                score += LINE_WEIGHTS[Math.min(ownCount, maxWeightIndex)];
+            else if(ownCount == 0)
+                score -= LINE_WEIGHTS[Math.min(otherCount, maxWeightIndex)];
+        }
+        return Math.max(-WIN_SCORE_UNIT + 1, Math.min(WIN_SCORE_UNIT - 1, score));
+    }
+
+    // Table move first, then blocks, then the rest
+    static boolean isInPhase(BitBoard board, int cell, int phase, int hashCell, int otherSide) {
+        if(cell == hashCell)
+            return phase == 0 && board.isEmpty(cell);
+        if(phase == 0 || !board.isEmpty(cell))
+            return false;
+        return board.isWinningMove(cell, otherSide) == (phase == 1);
+    }
+
+    // Earlier wins score higher, like the 10 - depth score of miniMaxCall on a 3x3 board
+    static int getWinScore(BoardGeometry geometry, int stoneCount) {
+        return (geometry.getCellCount() + 1 - stoneCount) * WIN_SCORE_UNIT;
+    }
+
+    private static Move getMove(BoardGeometry geometry, int cell, int score) {
+        return Move.getMove(Element.createElement(geometry.getRowIndex(cell), geometry.getColIndex(cell)), score);
+    }
+}
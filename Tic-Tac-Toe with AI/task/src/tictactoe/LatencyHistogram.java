@@ -0,0 +1,64 @@
+package tictactoe;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Lock-free buckets from 1 us to 10 s
+class LatencyHistogram {
+    private static final long[] BUCKET_BOUNDS_NANOS = {
+            1_000L, 2_500L, 5_000L, 10_000L, 25_000L, 50_000L, 100_000L, 250_000L, 500_000L,
+            1_000_000L, 2_500_000L, 5_000_000L, 10_000_000L, 25_000_000L, 50_000_000L,
+            100_000_000L, 250_000_000L, 500_000_000L, 1_000_000_000L, 2_500_000_000L, 5_000_000_000L,
+            10_000_000_000L};
+
+    // One more bucket than bounds, for the durations above the last bound
+    private final LongAdder[] counts = new LongAdder[BUCKET_BOUNDS_NANOS.length + 1];
+    private final LongAdder sumNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for(int i = 0; i < counts.length; i++)
+            counts[i] = new LongAdder();
+    }
+
+    public void record(long nanos) {
+        int bucket = 0;
+        while(bucket < BUCKET_BOUNDS_NANOS.length && nanos > BUCKET_BOUNDS_NANOS[bucket])
+            bucket++;
+        counts[bucket].increment();
+        sumNanos.add(nanos);
+    }
+
+    public long getCount() {
+        long count = 0;
+        for(LongAdder bucketCount : counts)
+            count += bucketCount.sum();
+        return count;
+    }
+
+    public long getSumNanos() {
+        return sumNanos.sum();
+    }
+
+    // Long.MAX_VALUE when past the last bucket
+    public long getPercentileBound(double fraction) {
+        long count = getCount(), seen = 0;
+        for(int bucket = 0; bucket < BUCKET_BOUNDS_NANOS.length; bucket++) {
+            seen += counts[bucket].sum();
+            if(count > 0 && seen >= fraction * count)
+                return BUCKET_BOUNDS_NANOS[bucket];
+        }
+        return Long.MAX_VALUE;
+    }
+
+    public void appendPrometheus(StringBuilder out, String name, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" histogram\n");
+        long cumulative = 0;
+        for(int bucket = 0; bucket < counts.length; bucket++) {
+            cumulative += counts[bucket].sum();
+            String bound = bucket < BUCKET_BOUNDS_NANOS.length ? Double.toString(BUCKET_BOUNDS_NANOS[bucket] / 1e9) : "+Inf";
+            out.append(name).append("_bucket{le=\"").append(bound).append("\"} ").append(cumulative).append('\n');
+        }
+        out.append(name).append("_sum ").append(sumNanos.sum() / 1e9).append('\n');
+        out.append(name).append("_count ").append(cumulative).append('\n');
+    }
+}
@@ -0,0 +1,66 @@
+package tictactoe;
+
+import java.util.SplittableRandom;
+
+class MachineVersusMachineTicTac extends TicTacToeGame {
+
+    private GameLevel[] levels;
+    private ComputerStrategy[] strategies;
+
+    public MachineVersusMachineTicTac(GameLevel level1, GameLevel level2) {
+        this(level1, level2, BoardGeometry.STANDARD);
+    }
+
+    public MachineVersusMachineTicTac(GameLevel level1, GameLevel level2, BoardGeometry geometry) {
+        GameFactory factory = new GameFactory(geometry);
+        this.geometry = geometry;
+        this.levels = new GameLevel[]{level1, level2};
+        this.strategies = new ComputerStrategy[] { factory.getStrategy(levels[0]), factory.getStrategy(levels[1]) };
+        this.gameType = GameType.MACHINE_MACHINE;
+        this.boardUtil = new BoardUtilWithAILogic(this, scanner);
+        setStrategyRandom(random);
+    }
+
+    @Override
+    protected void setStrategyRandom(SplittableRandom random) {
+        for(ComputerStrategy strategy : strategies)
+            strategy.setRandom(random);
+    }
+
+    @Override
+    protected void flushStrategyMetrics() {
+        for(ComputerStrategy strategy : strategies)
+            strategy.flushMetrics();
+    }
+
+    @Override
+    public GameLevel[] getLevels() {
+        return levels.clone();
+    }
+
+    @Override
+    public void playGame() {
+        FlightEvents.gameStarted(gameType, geometry);
+        boardUtil.displayBoard();
+        boolean isInputX = true;
+
+        while(gameStatus == GameStatus.GAME_NOT_FINISHED) {
+            char value = isInputX ? BoardUtil.CHARS_ALLOWED[BoardUtil.X_INDEX] :
+                    BoardUtil.CHARS_ALLOWED[BoardUtil.O_INDEX];
+            ComputerStrategy strategy = isInputX ? strategies[0] : strategies[1];
+
+            RoundType roundType = RoundType.MACHINE_ROUND;
+            GameRound round = new GameRound(boardUtil, roundType, strategy);
+            addRound(round);
+            round.getNextMove(value);
+            round.setValue(value);
+
+            boardUtil.updateBoard(round.getInput(), value, roundType);
+            boardUtil.displayBoard();
+            boardUtil.updateGameStatus();
+            isInputX = !isInputX;
+        }
+        System.out.println(gameStatus.getMessage());
+        recordGame();
+    }
+}
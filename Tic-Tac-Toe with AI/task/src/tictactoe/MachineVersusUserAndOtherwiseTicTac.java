@@ -0,0 +1,86 @@
+package tictactoe;
+
+import java.util.SplittableRandom;
+
+class MachineVersusUserAndOtherwiseTicTac extends TicTacToeGame {
+
+    private GameLevel level;
+    private boolean isFirstPlayUser;
+    private ComputerStrategy strategy;
+    private PonderingGameStrategy ponderingStrategy;
+
+    public MachineVersusUserAndOtherwiseTicTac(GameType gameType, GameLevel level) {
+        this(gameType, level, BoardGeometry.STANDARD);
+    }
+
+    public MachineVersusUserAndOtherwiseTicTac(GameType gameType, GameLevel level, BoardGeometry geometry) {
+        this.gameType = gameType;
+        this.geometry = geometry;
+        this.boardUtil = new BoardUtilWithAILogic(this, scanner);
+        this.level = level;
+        switch(gameType) {
+            case USER_MACHINE:
+                isFirstPlayUser = true;
+                break;
+            case MACHINE_USER:
+                isFirstPlayUser = false;
+                break;
+        }
+        this.strategy = new GameFactory().getStrategy(level);
+        if(level == GameLevel.HARD && PonderingGameStrategy.isEnabled()) {
+            ponderingStrategy = new PonderingGameStrategy(strategy);
+            strategy = ponderingStrategy;
+        }
+        setStrategyRandom(random);
+    }
+
+    @Override
+    protected void setStrategyRandom(SplittableRandom random) {
+        strategy.setRandom(random);
+    }
+
+    @Override
+    protected void flushStrategyMetrics() {
+        strategy.flushMetrics();
+    }
+
+    @Override
+    public GameLevel[] getLevels() {
+        return isFirstPlayUser ? new GameLevel[]{null, level} : new GameLevel[]{level, null};
+    }
+
+    @Override
+    public void playGame() {
+        FlightEvents.gameStarted(gameType, geometry);
+        boardUtil.displayBoard();
+        boolean isInputX = true;
+        boolean isPlayUser = isFirstPlayUser;
+
+        while(gameStatus == GameStatus.GAME_NOT_FINISHED) {
+            char value = isInputX ? BoardUtil.CHARS_ALLOWED[BoardUtil.X_INDEX] :
+                    BoardUtil.CHARS_ALLOWED[BoardUtil.O_INDEX];
+
+            RoundType roundType = isPlayUser ? RoundType.USER_ROUND :
+                    RoundType.MACHINE_ROUND;
+            GameRound round = roundType == RoundType.USER_ROUND ?
+                    new GameRound(boardUtil, roundType) :
+                    new GameRound(boardUtil, roundType, strategy);
+            addRound(round);
+            if(ponderingStrategy != null && roundType == RoundType.USER_ROUND)
+                ponderingStrategy.startPondering(boardUtil.getBitBoard(), isInputX ?
+                        BoardUtil.CHARS_ALLOWED[BoardUtil.O_INDEX] : BoardUtil.CHARS_ALLOWED[BoardUtil.X_INDEX]);
+            round.getNextMove(value);
+            round.setValue(value);
+
+            boardUtil.updateBoard(round.getInput(), value, roundType);
+            boardUtil.displayBoard();
+            boardUtil.updateGameStatus();
+            isInputX = !isInputX;
+            isPlayUser = !isPlayUser;
+        }
+        if(ponderingStrategy != null)
+            ponderingStrategy.stopPondering();
+        System.out.println(gameStatus.getMessage());
+        recordGame();
+    }
+}
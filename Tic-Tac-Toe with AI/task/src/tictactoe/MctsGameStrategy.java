@@ -0,0 +1,245 @@
+package tictactoe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+// UCT search; threads share the tree with virtual loss, and the tree is kept between moves
+class MctsGameStrategy extends ConcreteComputerStrategy {
+    public static final String TIME_PROPERTY = "tictactoe.mcts.timeMillis";
+    public static final String ITERATIONS_PROPERTY = "tictactoe.mcts.iterations";
+    public static final String THREADS_PROPERTY = "tictactoe.mcts.threads";
+    public static final long DEFAULT_ITERATIONS = 20_000;
+    // The usual UCT constant for results between 0 and 1
+    private static final double EXPLORATION = Math.sqrt(2);
+    static final int VIRTUAL_LOSS = 3;
+    // How many playouts run between two looks at the clock
+    private static final int LIMIT_CHECK_INTERVAL = 1 << 6;
+    private static final ForkJoinPool SHARED_POOL = new ForkJoinPool(
+            Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()));
+
+    private final SearchLimits searchLimits;
+    private final int threadCount;
+    private final ForkJoinPool pool;
+    private MctsNode root;
+    private BitBoard rootBoard;
+    private final AtomicLong playoutCount = new AtomicLong();
+    private long searchStartTime;
+
+    public MctsGameStrategy() {
+        this(getDefaultLimits(), Integer.getInteger(THREADS_PROPERTY, 1));
+    }
+
+    public MctsGameStrategy(SearchLimits searchLimits, int threadCount) {
+        this(searchLimits, threadCount, SHARED_POOL);
+    }
+
+    public MctsGameStrategy(SearchLimits searchLimits, int threadCount, ForkJoinPool pool) {
+        this.searchLimits = searchLimits;
+        this.threadCount = threadCount;
+        this.pool = pool;
+    }
+
+    public static SearchLimits getDefaultLimits() {
+        return new SearchLimits(Long.getLong(TIME_PROPERTY, 0), Long.getLong(ITERATIONS_PROPERTY, DEFAULT_ITERATIONS));
+    }
+
+    @Override
+    public GameLevel getLevel() {
+        return GameLevel.MCTS;
+    }
+
+    // A new generator means a new game, so the old tree is dropped
+    @Override
+    public void setRandom(SplittableRandom random) {
+        super.setRandom(random);
+        root = null;
+        rootBoard = null;
+    }
+
+    @Override
+    public Element chooseMove(GameRound round, char value) {
+        BitBoard board = round.getBoardUtil().getBitBoard();
+        BoardGeometry geometry = board.getGeometry();
+        int cell = getBestCell(board, BitBoard.getSide(value));
+        return Element.createElement(geometry.getRowIndex(cell), geometry.getColIndex(cell));
+    }
+
+    public int getBestCell(BitBoard board, int side) {
+        root = findReusableRoot(board, side);
+        if(root == null)
+            root = new MctsNode(-1, BitBoard.getOtherSide(side));
+        rootBoard = new BitBoard(board);
+        playoutCount.set(0);
+        searchStartTime = System.nanoTime();
+        if(threadCount <= 1)
+            runPlayouts(random);
+        else {
+            List<SplittableRandom> randoms = new ArrayList<>();
+            for(int i = 1; i < threadCount; i++)
+                randoms.add(random.split());
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for(SplittableRandom threadRandom : randoms)
+                tasks.add(pool.submit(() -> runPlayouts(threadRandom)));
+            runPlayouts(random);
+            for(ForkJoinTask<?> task : tasks)
+                task.join();
+        }
+        MctsNode best = null;
+        MctsNode[] children = root.getChildren();
+        for(int i = 0; children != null && i < children.length; i++) {
+            if(children[i] != null && (best == null || children[i].getVisits() > best.getVisits()))
+                best = children[i];
+        }
+        if(best != null)
+            return best.move;
+        // A budget too small for a single playout leaves the root unexpanded
+        for(int cell = 0; ; cell++) {
+            if(board.isEmpty(cell))
+                return cell;
+        }
+    }
+
+    public long getPlayoutCount() {
+        return playoutCount.get();
+    }
+
+    @Override
+    public long getNodeCount() {
+        return getPlayoutCount();
+    }
+
+    public int getRootVisits() {
+        return root == null ? 0 : root.getVisits();
+    }
+
+    // The same position, or one or two moves further down
+    private MctsNode findReusableRoot(BitBoard board, int side) {
+        if(root == null || rootBoard.getGeometry() != board.getGeometry())
+            return null;
+        int rootSide = BitBoard.getOtherSide(root.side);
+        int rootMove = -1, replyMove = -1;
+        for(int cell = 0; cell < board.getGeometry().getCellCount(); cell++) {
+            int oldSide = rootBoard.getSide(cell), newSide = board.getSide(cell);
+            if(oldSide == newSide)
+                continue;
+            if(oldSide != BoardUtil.EMPTY_SPACE_INDEX)
+                return null;
+            if(newSide == rootSide && rootMove == -1)
+                rootMove = cell;
+            else if(newSide != rootSide && replyMove == -1)
+                replyMove = cell;
+            else
+                return null;
+        }
+        if(replyMove != -1 && rootMove == -1)
+            return null;
+        MctsNode node = root;
+        if(rootMove != -1)
+            node = node.getChild(rootMove);
+        if(node != null && replyMove != -1)
+            node = node.getChild(replyMove);
+        return node != null && BitBoard.getOtherSide(node.side) == side && node.getState() != MctsNode.WIN ?
+                node : null;
+    }
+
+    private boolean isBudgetLeft(long playouts) {
+        long maxPlayouts = searchLimits.getMaxNodes() > 0 || searchLimits.getMaxTimeMillis() > 0 ?
+                searchLimits.getMaxNodes() : DEFAULT_ITERATIONS;
+        if(maxPlayouts > 0 && playouts >= maxPlayouts)
+            return false;
+        return searchLimits.getMaxTimeMillis() <= 0 || playouts % LIMIT_CHECK_INTERVAL != 0 ||
+                System.nanoTime() - searchStartTime < searchLimits.getMaxTimeMillis() * 1_000_000;
+    }
+
+    // A playout allocates nothing
+    private void runPlayouts(SplittableRandom random) {
+        BoardGeometry geometry = rootBoard.getGeometry();
+        BitBoard board = new BitBoard(geometry);
+        MctsNode[] path = new MctsNode[geometry.getCellCount() + 1];
+        int[] emptyCells = new int[geometry.getCellCount()];
+        while(true) {
+            long playouts = playoutCount.getAndIncrement();
+            if(!isBudgetLeft(playouts)) {
+                playoutCount.decrementAndGet();
+                break;
+            }
+            board.copyFrom(rootBoard);
+            MctsNode node = root;
+            node.addVisits(VIRTUAL_LOSS);
+            path[0] = node;
+            int length = 1;
+            int winner;
+            while(true) {
+                int state = node.getState();
+                if(state == MctsNode.WIN) {
+                    winner = node.side;
+                    break;
+                } else if(state == MctsNode.DRAW) {
+                    winner = BoardUtil.EMPTY_SPACE_INDEX;
+                    break;
+                }
+                MctsNode child = select(node, board);
+                board.place(child.move, child.side);
+                boolean isFirstVisit = child.addVisits(VIRTUAL_LOSS) == VIRTUAL_LOSS;
+                path[length++] = child;
+                if(child.getState() == MctsNode.UNKNOWN)
+                    child.setState(board.isWinThrough(child.move, child.side) ? MctsNode.WIN :
+                            board.isFull() ? MctsNode.DRAW : MctsNode.OPEN);
+                node = child;
+                if(isFirstVisit && child.getState() == MctsNode.OPEN) {
+                    winner = playOut(board, BitBoard.getOtherSide(child.side), emptyCells, random);
+                    break;
+                }
+            }
+            for(int i = 0; i < length; i++)
+                path[i].addResult(winner == BoardUtil.EMPTY_SPACE_INDEX ? 1 : winner == path[i].side ? 2 : 0);
+        }
+    }
+
+    private static MctsNode select(MctsNode node, BitBoard board) {
+        MctsNode[] children = node.getChildren();
+        if(children == null)
+            children = node.expand(board);
+        double logVisits = Math.log(Math.max(node.getVisits(), 1));
+        int bestIndex = -1;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for(int i = 0; i < children.length; i++) {
+            MctsNode child = children[i];
+            if(child == null)
+                return node.createChild(i);
+            int visits = child.getVisits();
+            // Created by another thread that has not counted its visit yet
+            if(visits == 0)
+                return child;
+            double value = child.getScore() / (2.0 * visits) + EXPLORATION * Math.sqrt(logVisits / visits);
+            if(value > bestValue) {
+                bestValue = value;
+                bestIndex = i;
+            }
+        }
+        return children[bestIndex];
+    }
+
+    // Returns the winning side, or the empty side for a draw
+    private static int playOut(BitBoard board, int side, int[] emptyCells, SplittableRandom random) {
+        int count = 0;
+        for(int cell = 0; cell < board.getGeometry().getCellCount(); cell++) {
+            if(board.isEmpty(cell))
+                emptyCells[count++] = cell;
+        }
+        while(count > 0) {
+            int index = random.nextInt(count);
+            int cell = emptyCells[index];
+            emptyCells[index] = emptyCells[--count];
+            board.place(cell, side);
+            if(board.isWinThrough(cell, side))
+                return side;
+            side = BitBoard.getOtherSide(side);
+        }
+        return BoardUtil.EMPTY_SPACE_INDEX;
+    }
+}
@@ -0,0 +1,90 @@
+package tictactoe;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+// Lock-free visits and score, 2 per win of side and 1 per draw
+class MctsNode {
+    static final int UNKNOWN = 0;
+    static final int OPEN = 1;
+    static final int WIN = 2;
+    static final int DRAW = 3;
+    private static final AtomicIntegerFieldUpdater<MctsNode> VISITS =
+            AtomicIntegerFieldUpdater.newUpdater(MctsNode.class, "visits");
+    private static final AtomicIntegerFieldUpdater<MctsNode> SCORE =
+            AtomicIntegerFieldUpdater.newUpdater(MctsNode.class, "score");
+
+    final int move;
+    final int side;
+    private volatile int visits;
+    private volatile int score;
+    private volatile int state;
+    private int[] moves;
+    private volatile MctsNode[] children;
+
+    MctsNode(int move, int side) {
+        this.move = move;
+        this.side = side;
+    }
+
+    public int getVisits() {
+        return visits;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getState() {
+        return state;
+    }
+
+    public void setState(int state) {
+        this.state = state;
+    }
+
+    public int addVisits(int count) {
+        return VISITS.addAndGet(this, count);
+    }
+
+    // Takes back all but one of the virtual visits
+    public void addResult(int points) {
+        VISITS.addAndGet(this, 1 - MctsGameStrategy.VIRTUAL_LOSS);
+        SCORE.addAndGet(this, points);
+    }
+
+    public MctsNode[] getChildren() {
+        return children;
+    }
+
+    public MctsNode getChild(int cell) {
+        MctsNode[] children = this.children;
+        if(children == null)
+            return null;
+        for(MctsNode child : children) {
+            if(child != null && child.move == cell)
+                return child;
+        }
+        return null;
+    }
+
+    public synchronized MctsNode[] expand(BitBoard board) {
+        if(children == null) {
+            BoardGeometry geometry = board.getGeometry();
+            int[] emptyCells = new int[geometry.getCellCount() - board.getStoneCount()];
+            int count = 0;
+            for(int cell : geometry.getOrderedCells()) {
+                if(board.isEmpty(cell))
+                    emptyCells[count++] = cell;
+            }
+            moves = emptyCells;
+            children = new MctsNode[count];
+        }
+        return children;
+    }
+
+    public synchronized MctsNode createChild(int index) {
+        if(children[index] == null)
+            children[index] = new MctsNode(moves[index], BitBoard.getOtherSide(side));
+        return children[index];
+    }
+}
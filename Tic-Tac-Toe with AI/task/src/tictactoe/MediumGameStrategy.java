@@ -0,0 +1,35 @@
+package tictactoe;
+
+import java.util.List;
+
+class MediumGameStrategy extends ConcreteComputerStrategy {
+
+    @Override
+    public GameLevel getLevel() {
+        return GameLevel.MEDIUM;
+    }
+
+    @Override
+    public Element chooseMove(GameRound round, char value) {
+        BoardUtil boardUtil = round.getBoardUtil();
+        BoardView board = boardUtil.getBoardView();
+        int side = BitBoard.getSide(value);
+        Element element = getFirstWinningCell(board, side);
+        if(element == null)
+            element = getFirstWinningCell(board, BitBoard.getOtherSide(side));
+        if(element != null)
+            return element;
+        List<Element> emptySpaces = boardUtil.getEmptySpaces();
+        int rand = random.nextInt(emptySpaces.size());
+        return emptySpaces.get(rand);
+    }
+
+    private Element getFirstWinningCell(BoardView board, int side) {
+        long[] winningCells = getWinningCells(board, side);
+        for(int wordIndex = 0; wordIndex < winningCells.length; wordIndex++) {
+            if(winningCells[wordIndex] != 0)
+                return getElement(board.getGeometry(), wordIndex, winningCells[wordIndex]);
+        }
+        return null;
+    }
+}
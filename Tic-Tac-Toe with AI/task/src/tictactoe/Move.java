@@ -0,0 +1,23 @@
+package tictactoe;
+
+class Move {
+    private Element element;
+    private int score;
+
+    public Move(Element element, int score) {
+        this.element = element;
+        this.score = score;
+    }
+
+    public static Move getMove(Element element, int score) {
+        return new Move(element, score);
+    }
+
+    public Element getElement() {
+        return element;
+    }
+
+    public int getScore() {
+        return score;
+    }
+}
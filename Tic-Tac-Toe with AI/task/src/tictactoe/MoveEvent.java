@@ -0,0 +1,28 @@
+package tictactoe;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("tictactoe.Move")
+@Label("Computer Move")
+@Category(FlightEvents.CATEGORY)
+@Description("A computer player choosing a move")
+@Enabled(false)
+@StackTrace(false)
+class MoveEvent extends Event {
+    @Label("Level")
+    String level;
+
+    @Label("Nodes")
+    @Description("Positions searched, or playouts for MCTS")
+    long nodes;
+
+    @Label("Depth")
+    @Description("Depth of the last search that ran to the end")
+    int depth;
+}
@@ -0,0 +1,79 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+// Indexed by the board read as a base-3 number, 0 empty, 1 X, 2 O
+class MoveTable {
+    public static final String FILE_PROPERTY = "tictactoe.moveTable";
+    public static final String DEFAULT_FILE = "move-table.bin";
+    public static final int MAGIC = 0x54545431;
+    public static final int VERSION = 1;
+    public static final BoardGeometry GEOMETRY = BoardGeometry.STANDARD;
+    public static final int ENTRY_COUNT = (int) Math.pow(3, GEOMETRY.getCellCount());
+    public static final byte NO_MOVE = -1;
+    private static final int HEADER_LENGTH = 4 * Integer.BYTES;
+    private static final int[] TERNARY_VALUES = createTernaryValues();
+
+    private final byte[] moves;
+    private final byte[] scores;
+
+    public MoveTable(byte[] moves, byte[] scores) {
+        this.moves = moves;
+        this.scores = scores;
+    }
+
+    private static int[] createTernaryValues() {
+        int[] ternaryValues = new int[1 << GEOMETRY.getCellCount()];
+        for(int mask = 1; mask < ternaryValues.length; mask++) {
+            int cell = Integer.numberOfTrailingZeros(mask);
+            ternaryValues[mask] = ternaryValues[mask & mask - 1] + (int) Math.pow(3, cell);
+        }
+        return ternaryValues;
+    }
+
+    public static int getIndex(BitBoard board) {
+        return TERNARY_VALUES[(int) board.getWord(BoardUtil.X_INDEX, 0)] +
+                2 * TERNARY_VALUES[(int) board.getWord(BoardUtil.O_INDEX, 0)];
+    }
+
+    public int getMove(int index) {
+        return moves[index];
+    }
+
+    public int getScore(int index) {
+        return scores[index];
+    }
+
+    public static MoveTable load(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        int payloadLength = HEADER_LENGTH + 2 * ENTRY_COUNT;
+        if(buffer.remaining() != payloadLength + Long.BYTES)
+            throw new IOException("Move table has the wrong length");
+        if(buffer.getInt() != MAGIC || buffer.getInt() != VERSION ||
+                buffer.getInt() != GEOMETRY.getSize() || buffer.getInt() != ENTRY_COUNT)
+            throw new IOException("Move table header does not match");
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, payloadLength);
+        if(buffer.getLong(payloadLength) != crc.getValue())
+            throw new IOException("Move table checksum does not match");
+        byte[] moves = new byte[ENTRY_COUNT], scores = new byte[ENTRY_COUNT];
+        buffer.get(moves);
+        buffer.get(scores);
+        return new MoveTable(moves, scores);
+    }
+
+    public void write(Path path) throws IOException {
+        int payloadLength = HEADER_LENGTH + 2 * ENTRY_COUNT;
+        ByteBuffer buffer = ByteBuffer.allocate(payloadLength + Long.BYTES);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(GEOMETRY.getSize()).putInt(ENTRY_COUNT);
+        buffer.put(moves).put(scores);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, payloadLength);
+        buffer.putLong(crc.getValue());
+        Files.write(path, buffer.array());
+    }
+}
@@ -0,0 +1,69 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+// Falls back to a live search when the table is not loaded
+class MoveTableGameStrategy extends ConcreteComputerStrategy {
+    private static final MoveTable DEFAULT_TABLE = loadDefaultTable();
+
+    private final MoveTable moveTable;
+    private final HardGameStrategy fallbackStrategy = new HardGameStrategy();
+    private long nodeCount;
+    private int completedDepth;
+
+    public MoveTableGameStrategy() {
+        this(DEFAULT_TABLE);
+    }
+
+    public MoveTableGameStrategy(MoveTable moveTable) {
+        this.moveTable = moveTable;
+    }
+
+    private static MoveTable loadDefaultTable() {
+        try {
+            return MoveTable.load(Paths.get(System.getProperty(MoveTable.FILE_PROPERTY, MoveTable.DEFAULT_FILE)));
+        } catch(IOException e) {
+            return null;
+        }
+    }
+
+    public boolean isTableLoaded() {
+        return moveTable != null;
+    }
+
+    @Override
+    public GameLevel getLevel() {
+        return GameLevel.HARD;
+    }
+
+    @Override
+    public Element chooseMove(GameRound round, char value) {
+        BitBoard board = round.getBoardUtil().getBitBoard();
+        int side = BitBoard.getSide(value);
+        // The table only answers for the side whose turn it is going by the number of marks, X moving first
+        boolean isSideToMove = (board.getStoneCount() % 2 == 0) == (side == BoardUtil.X_INDEX);
+        if(moveTable != null && board.getGeometry() == MoveTable.GEOMETRY && isSideToMove) {
+            int move = moveTable.getMove(MoveTable.getIndex(board));
+            if(move != MoveTable.NO_MOVE) {
+                nodeCount = 0;
+                completedDepth = 0;
+                return Element.createElement(MoveTable.GEOMETRY.getRowIndex(move), MoveTable.GEOMETRY.getColIndex(move));
+            }
+        }
+        Element move = fallbackStrategy.getBestMove(board, side).getElement();
+        nodeCount = fallbackStrategy.getNodeCount();
+        completedDepth = fallbackStrategy.getCompletedDepth();
+        return move;
+    }
+
+    @Override
+    public long getNodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+}
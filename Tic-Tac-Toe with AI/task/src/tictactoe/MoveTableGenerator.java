@@ -0,0 +1,58 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+// Usage: MoveTableGenerator [output file]
+public class MoveTableGenerator {
+    private final HardGameStrategy strategy = new HardGameStrategy(SearchMode.ALPHA_BETA,
+            new TranspositionTable(TranspositionTable.DEFAULT_SIZE));
+    private final byte[] moves = new byte[MoveTable.ENTRY_COUNT];
+    private final byte[] scores = new byte[MoveTable.ENTRY_COUNT];
+    private final boolean[] visited = new boolean[MoveTable.ENTRY_COUNT];
+    private int positionCount;
+    private int solvedCount;
+
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(args.length > 0 ? args[0] : MoveTable.DEFAULT_FILE);
+        MoveTableGenerator generator = new MoveTableGenerator();
+        MoveTable moveTable = generator.generate();
+        moveTable.write(path);
+        MoveTable.load(path);
+        System.out.println("Reachable positions: " + generator.positionCount);
+        System.out.println("Positions with a move: " + generator.solvedCount);
+        System.out.println("Move table written to " + path.toAbsolutePath());
+    }
+
+    public MoveTable generate() {
+        Arrays.fill(moves, MoveTable.NO_MOVE);
+        solve(new BitBoard(MoveTable.GEOMETRY), BoardUtil.X_INDEX);
+        return new MoveTable(moves, scores);
+    }
+
+    private void solve(BitBoard board, int side) {
+        int index = MoveTable.getIndex(board);
+        if(visited[index])
+            return;
+        visited[index] = true;
+        positionCount++;
+
+        if(board.isWin(BoardUtil.X_INDEX) || board.isWin(BoardUtil.O_INDEX) || board.isFull())
+            return;
+
+        Move move = strategy.getBestMove(board, side);
+        moves[index] = (byte) MoveTable.GEOMETRY.getCell(move.getElement());
+        scores[index] = (byte) (move.getScore() / HardGameStrategy.WIN_SCORE_UNIT);
+        solvedCount++;
+
+        for(int cell = 0; cell < MoveTable.GEOMETRY.getCellCount(); cell++) {
+            if(!board.isEmpty(cell))
+                continue;
+            board.place(cell, side);
+            solve(board, BitBoard.getOtherSide(side));
+            board.clear(cell);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package tictactoe;
+
+class NoOpBoardRenderer implements BoardRenderer {
+    @Override
+    public void render(BoardUtil boardUtil) {
+    }
+}
@@ -0,0 +1,88 @@
+package tictactoe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Moves get their own task down to the split plies; below that a worker searches alone
+class ParallelSearchTask extends RecursiveTask<Integer> {
+    private static final long serialVersionUID = 1L;
+    private final HardGameStrategy strategy;
+    private final ParallelSearchTask parent;
+    private final BitBoard board;
+    private final int cell;
+    private final int side;
+    private final int depth;
+    private final int splitPlies;
+    private final AtomicInteger bestScore = new AtomicInteger(-HardGameStrategy.INFINITE_SCORE);
+    private final int[] moveScores;
+    private int alpha;
+    private int beta;
+
+    // The root task scores its moves into moveScores
+    public ParallelSearchTask(HardGameStrategy strategy, BitBoard board, int side, int depth, int[] moveScores) {
+        this(strategy, null, board, -1, side, depth, HardGameStrategy.SPLIT_PLIES, moveScores);
+    }
+
+    private ParallelSearchTask(HardGameStrategy strategy, ParallelSearchTask parent, BitBoard board, int cell,
+                               int side, int depth, int splitPlies, int[] moveScores) {
+        this.strategy = strategy;
+        this.parent = parent;
+        this.board = board;
+        this.cell = cell;
+        this.side = side;
+        this.depth = depth;
+        this.splitPlies = splitPlies;
+        this.moveScores = moveScores;
+    }
+
+    private int getAlpha() {
+        return Math.max(alpha, parent == null ? bestScore.get() - 1 : bestScore.get());
+    }
+
+    @Override
+    protected Integer compute() {
+        alpha = parent == null ? -HardGameStrategy.INFINITE_SCORE : -parent.beta;
+        beta = parent == null ? HardGameStrategy.INFINITE_SCORE : -parent.getAlpha();
+        int score = alpha >= beta ? beta : search();
+        if(parent != null) {
+            parent.bestScore.accumulateAndGet(-score, Math::max);
+            if(parent.moveScores != null)
+                parent.moveScores[cell] = -score;
+        }
+        return score;
+    }
+
+    private int search() {
+        if(splitPlies <= 0 || strategy.isSearchAborted())
+            return strategy.searchInWorker(board, side, alpha, beta, depth);
+        strategy.addWorkerNodes(1);
+        BoardGeometry geometry = board.getGeometry();
+        if(board.isFull())
+            return 0;
+        for(int cell = 0; cell < geometry.getCellCount(); cell++) {
+            if(board.isEmpty(cell) && board.isWinningMove(cell, side))
+                return HardGameStrategy.getWinScore(geometry, board.getStoneCount() + 1);
+        }
+        if(depth <= 0)
+            return HardGameStrategy.evaluate(board, side);
+
+        int otherSide = BitBoard.getOtherSide(side);
+        List<ParallelSearchTask> tasks = new ArrayList<>();
+        for(int phase = 1; phase < 3; phase++) {
+            for(int cell : geometry.getOrderedCells()) {
+                if(!HardGameStrategy.isInPhase(board, cell, phase, -1, otherSide))
+                    continue;
+                BitBoard childBoard = new BitBoard(board);
+                childBoard.place(cell, side);
+                tasks.add(new ParallelSearchTask(strategy, this, childBoard, cell, otherSide, depth - 1,
+                        splitPlies - 1, null));
+            }
+        }
+        // The first move is searched alone, so the others start with its score as a bound
+        tasks.get(0).invoke();
+        invokeAll(tasks.subList(1, tasks.size()));
+        return bestScore.get();
+    }
+}
@@ -0,0 +1,158 @@
+package tictactoe;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Searches the replies to the user's moves while the user thinks, with -Dtictactoe.ponder=true
+class PonderingGameStrategy extends ConcreteComputerStrategy {
+    public static final String PROPERTY = "tictactoe.ponder";
+    private static final ExecutorService PONDER_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ponder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ComputerStrategy strategy;
+    private final boolean isTableLoaded;
+    // Written only by the ponder thread and read after stopPondering has waited for it
+    private final Map<Integer, Element> replies = new HashMap<>();
+    private BitBoard ponderBoard;
+    private HardGameStrategy ponderSearch;
+    private Future<?> ponderTask;
+    private long nodeCount;
+    private int completedDepth;
+    private int hitCount;
+    private int missCount;
+
+    public PonderingGameStrategy(ComputerStrategy strategy) {
+        this.strategy = strategy;
+        this.isTableLoaded = strategy instanceof MoveTableGameStrategy && ((MoveTableGameStrategy) strategy).isTableLoaded();
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(PROPERTY);
+    }
+
+    @Override
+    public GameLevel getLevel() {
+        return strategy.getLevel();
+    }
+
+    @Override
+    public void setRandom(SplittableRandom random) {
+        super.setRandom(random);
+        strategy.setRandom(random);
+    }
+
+    // The board is copied, so the game can go on with it
+    public void startPondering(BitBoard board, char value) {
+        stopPondering();
+        replies.clear();
+        ponderBoard = null;
+        if((isTableLoaded && board.getGeometry() == MoveTable.GEOMETRY) || board.isFull())
+            return;
+        ponderBoard = new BitBoard(board);
+        BitBoard searchBoard = new BitBoard(board);
+        HardGameStrategy search = new HardGameStrategy();
+        ponderSearch = search;
+        ponderTask = PONDER_EXECUTOR.submit(() -> ponder(searchBoard, BitBoard.getSide(value), search));
+    }
+
+    private void ponder(BitBoard board, int side, HardGameStrategy search) {
+        BoardGeometry geometry = board.getGeometry();
+        int userSide = BitBoard.getOtherSide(side);
+        int expectedCell = geometry.getCell(search.getBestMove(board, userSide).getElement());
+        if(search.isStopped())
+            return;
+        ponderReply(board, expectedCell, side, search);
+        for(int cell = 0; cell < geometry.getCellCount() && !search.isStopped(); cell++) {
+            if(cell != expectedCell && board.isEmpty(cell))
+                ponderReply(board, cell, side, search);
+        }
+    }
+
+    // A stopped search may not have got past its first depth, so its reply is dropped
+    private void ponderReply(BitBoard board, int userCell, int side, HardGameStrategy search) {
+        int userSide = BitBoard.getOtherSide(side);
+        // After a winning or last move of the user there is nothing to reply to
+        if(board.isWinningMove(userCell, userSide))
+            return;
+        board.place(userCell, userSide);
+        if(!board.isFull()) {
+            Element reply = search.getBestMove(board, side).getElement();
+            if(!search.isStopped())
+                replies.put(userCell, reply);
+        }
+        board.clear(userCell);
+    }
+
+    public void stopPondering() {
+        if(ponderTask == null)
+            return;
+        ponderSearch.stop();
+        try {
+            ponderTask.get();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch(ExecutionException e) {
+            throw new IllegalStateException("Pondering failed", e.getCause());
+        } finally {
+            ponderTask = null;
+            ponderSearch = null;
+        }
+    }
+
+    @Override
+    public Element chooseMove(GameRound round, char value) {
+        stopPondering();
+        BitBoard board = round.getBoardUtil().getBitBoard();
+        Element reply = ponderBoard == null ? null : replies.get(getUserCell(board));
+        ponderBoard = null;
+        replies.clear();
+        if(reply != null) {
+            hitCount++;
+            nodeCount = 0;
+            completedDepth = 0;
+            return reply;
+        }
+        missCount++;
+        Element move = strategy.chooseMove(round, value);
+        nodeCount = strategy.getNodeCount();
+        completedDepth = strategy.getCompletedDepth();
+        return move;
+    }
+
+    // -1 when the board is not one move on
+    private int getUserCell(BitBoard board) {
+        if(board.getStoneCount() != ponderBoard.getStoneCount() + 1)
+            return -1;
+        for(int cell = 0; cell < board.getGeometry().getCellCount(); cell++) {
+            if(ponderBoard.isEmpty(cell) && !board.isEmpty(cell))
+                return cell;
+        }
+        return -1;
+    }
+
+    @Override
+    public long getNodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    public int getMissCount() {
+        return missCount;
+    }
+}
@@ -0,0 +1,25 @@
+package tictactoe;
+
+import java.util.Locale;
+
+enum RenderMode {
+    BUFFERED, DIFF, QUIET;
+
+    public static final String PROPERTY = "tictactoe.render";
+
+    // From tictactoe.render, buffered by default
+    public static RenderMode getDefault() {
+        return valueOf(System.getProperty(PROPERTY, BUFFERED.name()).toUpperCase(Locale.ROOT));
+    }
+
+    public BoardRenderer createRenderer() {
+        switch(this) {
+            case DIFF:
+                return new DiffBoardRenderer();
+            case QUIET:
+                return new NoOpBoardRenderer();
+            default:
+                return new BufferedBoardRenderer();
+        }
+    }
+}
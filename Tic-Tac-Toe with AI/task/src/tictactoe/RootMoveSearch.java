@@ -0,0 +1,7 @@
+package tictactoe;
+
+// Scores the moves at the root of a hard search: exact for the best move and its ties, below the best for
+// the others. Moves it does not get to before the search is aborted keep their score.
+interface RootMoveSearch {
+    public void scoreMoves(BitBoard board, int side, int depth, int[] moveScores);
+}
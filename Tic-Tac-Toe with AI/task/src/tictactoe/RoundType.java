@@ -0,0 +1,5 @@
+package tictactoe;
+
+enum RoundType {
+    USER_ROUND, MACHINE_ROUND, USER2_ROUND, FILL_ROUND;
+}
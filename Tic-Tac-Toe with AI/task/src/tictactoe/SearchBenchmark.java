@@ -0,0 +1,90 @@
+package tictactoe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+// Usage: SearchBenchmark [positions [stones]]
+public class SearchBenchmark {
+    private static final BoardGeometry GEOMETRY = BoardGeometry.of(4, 4);
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16};
+    private static final long SEED = 2021;
+    private static final int WARMUP_ROUNDS = 2;
+
+    private final List<BitBoard> positions;
+    private final List<Integer> expectedMoves = new ArrayList<>();
+
+    public SearchBenchmark(List<BitBoard> positions) {
+        this.positions = positions;
+    }
+
+    public static void main(String[] args) {
+        int positionCount = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int stoneCount = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        SearchBenchmark benchmark = new SearchBenchmark(createPositions(positionCount, stoneCount));
+        System.out.println("Available processors: " + Runtime.getRuntime().availableProcessors());
+        benchmark.run();
+    }
+
+    // The same positions on every run
+    public static List<BitBoard> createPositions(int positionCount, int stoneCount) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<BitBoard> positions = new ArrayList<>();
+        while(positions.size() < positionCount) {
+            BitBoard board = new BitBoard(GEOMETRY);
+            int side = BoardUtil.X_INDEX;
+            while(board.getStoneCount() < stoneCount) {
+                int cell = random.nextInt(GEOMETRY.getCellCount());
+                if(!board.isEmpty(cell) || board.isWinningMove(cell, side))
+                    continue;
+                board.place(cell, side);
+                side = BitBoard.getOtherSide(side);
+            }
+            positions.add(board);
+        }
+        return positions;
+    }
+
+    public void run() {
+        HardGameStrategy sequential = new HardGameStrategy(SearchMode.ITERATIVE_DEEPENING,
+                new TranspositionTable(TranspositionTable.DEFAULT_SIZE), SearchLimits.UNLIMITED);
+        long sequentialTime = time(sequential, true);
+        System.out.printf("sequential: %d ms%n", sequentialTime / 1_000_000);
+
+        long baseTime = 0;
+        for(int threadCount : THREAD_COUNTS) {
+            ForkJoinPool pool = new ForkJoinPool(threadCount);
+            try {
+                for(int round = 0; round < WARMUP_ROUNDS; round++)
+                    time(createParallelStrategy(pool), false);
+                long elapsed = time(createParallelStrategy(pool), false);
+                baseTime = threadCount == THREAD_COUNTS[0] ? elapsed : baseTime;
+                System.out.printf("%2d threads: %d ms, speedup %.2f%n", threadCount, elapsed / 1_000_000,
+                        (double) baseTime / elapsed);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static HardGameStrategy createParallelStrategy(ForkJoinPool pool) {
+        return new HardGameStrategy(SearchMode.PARALLEL, new TranspositionTable(TranspositionTable.DEFAULT_SIZE),
+                SearchLimits.UNLIMITED, pool);
+    }
+
+    private long time(HardGameStrategy strategy, boolean isExpected) {
+        long start = System.nanoTime();
+        for(int i = 0; i < positions.size(); i++) {
+            BitBoard board = positions.get(i);
+            int side = board.getStoneCount() % 2 == 0 ? BoardUtil.X_INDEX : BoardUtil.O_INDEX;
+            int move = GEOMETRY.getCell(strategy.getBestMove(board, side).getElement());
+            if(isExpected)
+                expectedMoves.add(move);
+            else if(move != expectedMoves.get(i))
+                throw new IllegalStateException("Parallel search picked cell " + move + " instead of " +
+                        expectedMoves.get(i) + " in position " + i);
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,37 @@
+package tictactoe;
+
+// A limit of 0 means no limit
+class SearchLimits {
+    public static final String TIME_PROPERTY = "tictactoe.hard.timeMillis";
+    public static final String NODES_PROPERTY = "tictactoe.hard.maxNodes";
+    public static final long DEFAULT_TIME_MILLIS = 1000;
+    public static final SearchLimits UNLIMITED = new SearchLimits(0, 0);
+
+    private final long maxTimeMillis;
+    private final long maxNodes;
+
+    public SearchLimits(long maxTimeMillis, long maxNodes) {
+        this.maxTimeMillis = maxTimeMillis;
+        this.maxNodes = maxNodes;
+    }
+
+    public static SearchLimits getDefault() {
+        return new SearchLimits(Long.getLong(TIME_PROPERTY, DEFAULT_TIME_MILLIS), Long.getLong(NODES_PROPERTY, 0));
+    }
+
+    public static SearchLimits ofTime(long maxTimeMillis) {
+        return new SearchLimits(maxTimeMillis, 0);
+    }
+
+    public static SearchLimits ofNodes(long maxNodes) {
+        return new SearchLimits(0, maxNodes);
+    }
+
+    public long getMaxTimeMillis() {
+        return maxTimeMillis;
+    }
+
+    public long getMaxNodes() {
+        return maxNodes;
+    }
+}
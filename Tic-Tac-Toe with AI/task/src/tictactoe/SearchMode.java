@@ -0,0 +1,5 @@
+package tictactoe;
+
+enum SearchMode {
+    MINIMAX, ALPHA_BETA, ITERATIVE_DEEPENING, PARALLEL;
+}
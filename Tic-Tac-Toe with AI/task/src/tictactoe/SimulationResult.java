@@ -0,0 +1,59 @@
+package tictactoe;
+
+class SimulationResult {
+    private int xWinCount;
+    private int oWinCount;
+    private int drawCount;
+    private long moveCount;
+    private long elapsedNanos;
+
+    public void addGame(GameStatus status, int gameMoveCount) {
+        switch(status) {
+            case X_WINS:
+                xWinCount++;
+                break;
+            case O_WINS:
+                oWinCount++;
+                break;
+            case DRAW:
+                drawCount++;
+                break;
+        }
+        moveCount += gameMoveCount;
+    }
+
+    public void add(SimulationResult result) {
+        xWinCount += result.xWinCount;
+        oWinCount += result.oWinCount;
+        drawCount += result.drawCount;
+        moveCount += result.moveCount;
+    }
+
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getGameCount() {
+        return xWinCount + oWinCount + drawCount;
+    }
+
+    public int getXWinCount() {
+        return xWinCount;
+    }
+
+    public int getOWinCount() {
+        return oWinCount;
+    }
+
+    public int getDrawCount() {
+        return drawCount;
+    }
+
+    public double getAverageGameLength() {
+        return getGameCount() == 0 ? 0 : (double) moveCount / getGameCount();
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : getGameCount() * 1e9 / elapsedNanos;
+    }
+}
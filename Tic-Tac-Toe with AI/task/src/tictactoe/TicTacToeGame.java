@@ -0,0 +1,95 @@
+package tictactoe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.SplittableRandom;
+
+abstract class TicTacToeGame implements TicTacToeInterface {
+    protected GameType gameType;
+    protected BoardGeometry geometry = BoardGeometry.STANDARD;
+    protected GameStatus gameStatus = GameStatus.GAME_NOT_FINISHED;
+    protected List<GameRound> rounds = new ArrayList<>();
+    protected BoardUtil boardUtil;
+    protected BoardRenderer renderer = RenderMode.getDefault().createRenderer();
+    protected long seed = GameSeeds.nextGameSeed();
+    protected SplittableRandom random = new SplittableRandom(seed);
+    protected final Scanner scanner = new Scanner(System.in);
+
+    public Scanner getScanner() {
+        return scanner;
+    }
+
+    public BoardRenderer getRenderer() {
+        return renderer;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // Replays the random choices of the game with this seed
+    public void setSeed(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+        setStrategyRandom(random);
+    }
+
+    protected void setStrategyRandom(SplittableRandom random) {
+    }
+
+    protected void flushStrategyMetrics() {
+    }
+
+    // Null for a user
+    public GameLevel[] getLevels() {
+        return new GameLevel[2];
+    }
+
+    protected void recordGame() {
+        FlightEvents.gameEnded(gameType, gameStatus, rounds.size());
+        if(EngineMetrics.ENABLED) {
+            flushStrategyMetrics();
+            EngineMetrics.gameFinished(gameStatus, rounds.size());
+        }
+        GameLog log = GameLog.getDefault();
+        if(log == null)
+            return;
+        byte[] moves = new byte[rounds.size()];
+        for(int i = 0; i < moves.length; i++)
+            moves[i] = (byte) geometry.getCell(rounds.get(i).getInput());
+        log.append(new GameRecord(gameType, getLevels(), seed, geometry, moves, gameStatus));
+    }
+
+    public void setRenderer(BoardRenderer renderer) {
+        this.renderer = renderer;
+    }
+
+    public void addRound(GameRound round) {
+        rounds.add(round);
+    }
+
+    public GameRound getRound() {
+        if(rounds.size()>0)
+            return rounds.get(rounds.size()-1);
+        else
+            return null;
+    }
+
+    public void setGameStatus(GameStatus gameStatus) {
+        this.gameStatus = gameStatus;
+    }
+
+    public GameStatus getGameStatus() {
+        return this.gameStatus;
+    }
+
+    public BoardUtil getBoardUtil() {
+        return boardUtil;
+    }
+
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+}
@@ -0,0 +1,5 @@
+package tictactoe;
+
+interface TicTacToeInterface {
+    public void playGame();
+}
@@ -0,0 +1,96 @@
+package tictactoe;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+// Keyed on the canonical orientation, so the 8 symmetric positions share one entry
+class TranspositionTable {
+    public static final long NO_ENTRY = 0;
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int UPPER_BOUND = 3;
+    // Depth stored for results that looked all the way to the end of the game
+    public static final int COMPLETE_DEPTH = 0xFF;
+    public static final int DEFAULT_SIZE = 1 << 16;
+    private static final TranspositionTable SHARED_TABLE = new TranspositionTable(DEFAULT_SIZE);
+
+    // Entry bits: score 0-19, bound 20-21, all best moves flag 22, depth 23-30, best cell or mask 32-63
+    // Keys are stored xor-ed with their entry, so a torn write reads as a miss
+    private final long[] keys;
+    private final long[] entries;
+    private final int indexMask;
+    // Searches count their own probes and add them up here when they end
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public TranspositionTable(int size) {
+        int capacity = Integer.highestOneBit(Math.max(size, 1));
+        this.keys = new long[capacity];
+        this.entries = new long[capacity];
+        this.indexMask = capacity - 1;
+    }
+
+    public static TranspositionTable getSharedTable() {
+        return SHARED_TABLE;
+    }
+
+    private int getIndex(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & indexMask;
+    }
+
+    public long probe(long key) {
+        int index = getIndex(key);
+        long entry = entries[index];
+        if(entry != NO_ENTRY && (keys[index] ^ entry) == key)
+            return entry;
+        return NO_ENTRY;
+    }
+
+    public void store(long key, int score, int bound, int depth, int bestMoves, boolean hasAllBestMoves) {
+        int index = getIndex(key);
+        long entry = (score + 0x80000) | (long) bound << 20 | (hasAllBestMoves ? 1L << 22 : 0) |
+                (long) Math.min(depth, COMPLETE_DEPTH) << 23 | (long) bestMoves << 32;
+        entries[index] = entry;
+        keys[index] = key ^ entry;
+    }
+
+    public static int getScore(long entry) {
+        return (int) (entry & 0xFFFFF) - 0x80000;
+    }
+
+    public static int getBound(long entry) {
+        return (int) (entry >>> 20) & 3;
+    }
+
+    public static boolean hasAllBestMoves(long entry) {
+        return (entry & 1L << 22) != 0;
+    }
+
+    public static int getDepth(long entry) {
+        return (int) (entry >>> 23) & COMPLETE_DEPTH;
+    }
+
+    public static int getBestMoves(long entry) {
+        return (int) (entry >>> 32);
+    }
+
+    public void addProbeCounts(long hits, long misses) {
+        hitCount.add(hits);
+        missCount.add(misses);
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(entries, NO_ENTRY);
+        hitCount.reset();
+        missCount.reset();
+    }
+}
@@ -0,0 +1,38 @@
+package tictactoe;
+
+class UserVersusUserTicTac extends TicTacToeGame {
+    public UserVersusUserTicTac() {
+        this(BoardGeometry.STANDARD);
+    }
+
+    public UserVersusUserTicTac(BoardGeometry geometry) {
+        this.gameType = GameType.USER_USER;
+        this.geometry = geometry;
+        this.boardUtil = new BoardUtil(this, scanner);
+    }
+
+    @Override
+    public void playGame() {
+        FlightEvents.gameStarted(gameType, geometry);
+        boardUtil.displayBoard();
+        boolean isInputX = true;
+
+        while(gameStatus == GameStatus.GAME_NOT_FINISHED) {
+            char value = isInputX ? BoardUtil.CHARS_ALLOWED[BoardUtil.X_INDEX] :
+                    BoardUtil.CHARS_ALLOWED[BoardUtil.O_INDEX];
+
+            RoundType roundType = isInputX ? RoundType.USER_ROUND : RoundType.USER2_ROUND;
+            GameRound round = new GameRound(boardUtil, roundType);
+            addRound(round);
+            round.getNextMove();
+            round.setValue(value);
+
+            boardUtil.updateBoard(round.getInput(), value, roundType);
+            boardUtil.displayBoard();
+            boardUtil.updateGameStatus();
+            isInputX = !isInputX;
+        }
+        System.out.println(gameStatus.getMessage());
+        recordGame();
+    }
+}
@@ -0,0 +1,119 @@
+package tictactoe;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BestMoveServerTest {
+    // X to move completes the top row; the only winning cell is row 0, column 2
+    private static final String X_WINS_NEXT = "XX_OO____";
+
+    private BestMoveServer server;
+
+    @Before
+    public void startServer() throws IOException {
+        server = new BestMoveServer(0, 2, 1 << 13);
+        server.start();
+    }
+
+    @After
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    public void moveRequestReturnsTheWinningMove() throws IOException {
+        String expected = "{\"level\":\"hard\",\"side\":\"X\"," +
+                "\"move\":{\"row\":0,\"column\":2,\"coordinates\":\"3 3\"}," +
+                "\"board\":\"XXXOO____\",\"status\":\"X wins\",\"cached\":false}";
+        assertEquals("200 " + expected, get("/move?board=" + X_WINS_NEXT + "&level=hard"));
+        assertEquals("200 " + expected.replace("false", "true"), get("/move?board=" + X_WINS_NEXT + "&level=hard"));
+    }
+
+    // After the first, every rotation and reflection of the board is answered from its entry
+    @Test
+    public void everyOrientationIsAnsweredFromTheCache() {
+        BoardGeometry geometry = BoardGeometry.STANDARD;
+        for(int symmetry = 0; symmetry < BoardGeometry.SYMMETRY_COUNT; symmetry++) {
+            char[] board = new char[X_WINS_NEXT.length()];
+            for(int cell = 0; cell < board.length; cell++)
+                board[geometry.getSymmetricCell(symmetry, cell)] = X_WINS_NEXT.charAt(cell);
+            String json = server.findMove(new String(board), "hard", -1, -1);
+            int move = geometry.getSymmetricCell(symmetry, 2);
+            assertTrue(json, json.contains("\"row\":" + geometry.getRowIndex(move) + ",\"column\":" +
+                    geometry.getColIndex(move) + ","));
+            assertTrue(json, json.endsWith("\"cached\":" + (symmetry > 0) + "}"));
+        }
+    }
+
+    // Every reachable 3x3 position, against the move the hard level plays in a game; most of them are rotations or
+    // reflections of a position answered before
+    @Test
+    public void hardAnswersTheMoveItPlaysInAGame() {
+        GameFactory factory = new GameFactory(BoardGeometry.STANDARD);
+        int cachedCount = 0;
+        for(BitBoard board : TestBoards.reachablePositions()) {
+            StringBuilder boardString = new StringBuilder();
+            for(int cell = 0; cell < 9; cell++)
+                boardString.append(board.getChar(cell));
+            String json = server.findMove(boardString.toString(), "hard", -1, -1);
+            int row = json.charAt(json.indexOf("\"row\":") + 6) - '0';
+            int col = json.charAt(json.indexOf("\"column\":") + 9) - '0';
+            int side = TestBoards.getSideToMove(board);
+            assertEquals(json, TestBoards.chooseCell(factory.getStrategy(GameLevel.HARD), board, side), 3 * row + col);
+            cachedCount += json.endsWith("\"cached\":true}") ? 1 : 0;
+        }
+        assertTrue("cached " + cachedCount, cachedCount > 3000);
+    }
+
+    @Test
+    public void finishedBoardHasNoMove() {
+        assertEquals("{\"level\":\"easy\",\"side\":\"O\",\"move\":null,\"board\":\"XXXOO____\"," +
+                "\"status\":\"X wins\",\"cached\":false}", server.findMove("XXXOO____", "easy", -1, -1));
+    }
+
+    @Test
+    public void badRequestsGetErrorJson() throws IOException {
+        assertEquals("400 {\"error\":\"Unknown level: nightmare\"}",
+                get("/move?board=_________&level=nightmare"));
+        assertEquals("400 {\"error\":\"The difference between the number of times the symbols occur on the board " +
+                "should not be more than one!\"}", get("/move?board=XXX______&level=hard"));
+        assertEquals("400 {\"error\":\"The board and level parameters are required\"}", get("/move?level=hard"));
+        assertEquals("400 {\"error\":\"Not a number: four\"}", get("/move?board=_________&level=hard&size=four"));
+    }
+
+    @Test
+    public void metricsCountCacheHitsAndMisses() throws IOException {
+        get("/move?board=_________&level=medium");
+        get("/move?board=_________&level=medium");
+        get("/move?board=X________&level=medium");
+        String metrics = get("/metrics");
+        assertTrue(metrics, metrics.contains("\ntictactoe_move_cache_hits_total 1\n"));
+        assertTrue(metrics, metrics.contains("\ntictactoe_move_cache_misses_total 2\n"));
+    }
+
+    private String get(String path) throws IOException {
+        HttpURLConnection connection =
+                (HttpURLConnection) new URL("http://127.0.0.1:" + server.getPort() + path).openConnection();
+        try {
+            int statusCode = connection.getResponseCode();
+            try(InputStream in = statusCode < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                ByteArrayOutputStream body = new ByteArrayOutputStream();
+                in.transferTo(body);
+                return statusCode + " " + body.toString(StandardCharsets.UTF_8);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package tictactoe;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class BitBoardTest {
+    private static final BoardGeometry GEOMETRY = BoardGeometry.STANDARD;
+
+    // Every way of filling the 9 cells with X, O or nothing, reachable in a game or not
+    @Test
+    public void winDetectionMatchesLineScanOnEveryBoard() {
+        int cellCount = GEOMETRY.getCellCount();
+        int boardCount = (int) Math.pow(3, cellCount);
+        for(int code = 0; code < boardCount; code++) {
+            char[][] chars = TestBoards.emptyChars(GEOMETRY.getSize());
+            BitBoard board = new BitBoard(GEOMETRY);
+            for(int cell = 0, rest = code; cell < cellCount; cell++, rest /= 3) {
+                board.setSide(cell, rest % 3);
+                chars[GEOMETRY.getRowIndex(cell)][GEOMETRY.getColIndex(cell)] = BoardUtil.CHARS_ALLOWED[rest % 3];
+            }
+            assertEquals(code, TestBoards.getCode(board));
+            checkBoard(board, chars);
+        }
+    }
+
+    @Test
+    public void copyDoesNotShareCells() {
+        BitBoard board = new BitBoard(GEOMETRY);
+        board.place(4, BoardUtil.X_INDEX);
+        BitBoard copy = new BitBoard(board);
+        copy.place(0, BoardUtil.O_INDEX);
+        copy.clear(4);
+        assertEquals(BoardUtil.X_INDEX, board.getSide(4));
+        assertEquals(BoardUtil.EMPTY_SPACE_INDEX, board.getSide(0));
+        assertEquals(1, board.getStoneCount());
+        assertEquals(1L, copy.getWord(BoardUtil.O_INDEX, 0));
+        assertEquals(0L, copy.getWord(BoardUtil.X_INDEX, 0));
+    }
+
+    private static void checkBoard(BitBoard board, char[][] chars) {
+        int winLength = GEOMETRY.getWinLength();
+        boolean isXWin = TestBoards.hasAnyLine(chars, 'X', winLength);
+        boolean isOWin = TestBoards.hasAnyLine(chars, 'O', winLength);
+        assertEquals(isXWin, board.isWin(BoardUtil.X_INDEX));
+        assertEquals(isOWin, board.isWin(BoardUtil.O_INDEX));
+        if(!isXWin || !isOWin) {
+            int expected = isXWin ? BoardUtil.X_INDEX : isOWin ? BoardUtil.O_INDEX : BoardUtil.EMPTY_SPACE_INDEX;
+            assertEquals(expected, board.getWinningSide());
+        }
+        for(int cell = 0; cell < GEOMETRY.getCellCount(); cell++) {
+            int row = GEOMETRY.getRowIndex(cell), col = GEOMETRY.getColIndex(cell);
+            char c = chars[row][col];
+            if(c != '_') {
+                assertEquals(TestBoards.hasLineThrough(chars, row, col, winLength),
+                        board.isWinThrough(cell, BitBoard.getSide(c)));
+                continue;
+            }
+            for(int side = BoardUtil.X_INDEX; side <= BoardUtil.O_INDEX; side++) {
+                chars[row][col] = BoardUtil.CHARS_ALLOWED[side];
+                assertEquals(TestBoards.hasLineThrough(chars, row, col, winLength), board.isWinningMove(cell, side));
+            }
+            chars[row][col] = '_';
+        }
+    }
+}
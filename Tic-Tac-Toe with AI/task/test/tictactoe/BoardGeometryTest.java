@@ -0,0 +1,88 @@
+package tictactoe;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class BoardGeometryTest {
+    private static final int[][] GEOMETRIES = {{3, 3}, {4, 3}, {5, 4}, {6, 4}, {7, 5}, {10, 5}, {15, 5}, {15, 15}};
+
+    @Test
+    public void lineCountCoversEveryWindow() {
+        for(int[] sizes : GEOMETRIES) {
+            BoardGeometry geometry = BoardGeometry.of(sizes[0], sizes[1]);
+            int size = sizes[0], starts = sizes[0] - sizes[1] + 1;
+            assertEquals(2 * size * starts + 2 * starts * starts, geometry.getLineCount());
+        }
+    }
+
+    @Test
+    public void linesAlongTheEdgesWin() {
+        for(int[] sizes : GEOMETRIES) {
+            BoardGeometry geometry = BoardGeometry.of(sizes[0], sizes[1]);
+            int last = sizes[0] - 1, winLength = sizes[1];
+            // Rows and columns at both ends, and the diagonals into each corner
+            assertEquals(GameStatus.X_WINS, play(geometry, 0, last - winLength + 1, 0, 1, winLength));
+            assertEquals(GameStatus.X_WINS, play(geometry, last, 0, 0, 1, winLength));
+            assertEquals(GameStatus.X_WINS, play(geometry, 0, last, 1, 0, winLength));
+            assertEquals(GameStatus.X_WINS, play(geometry, last - winLength + 1, 0, 1, 0, winLength));
+            assertEquals(GameStatus.X_WINS, play(geometry, last - winLength + 1, last - winLength + 1, 1, 1, winLength));
+            assertEquals(GameStatus.X_WINS, play(geometry, 0, 0, 1, 1, winLength));
+            assertEquals(GameStatus.X_WINS, play(geometry, last - winLength + 1, winLength - 1, 1, -1, winLength));
+            assertEquals(GameStatus.X_WINS, play(geometry, 0, last, 1, -1, winLength));
+            assertEquals(GameStatus.GAME_NOT_FINISHED, play(geometry, 0, last - winLength + 2, 0, 1, winLength - 1));
+            assertEquals(GameStatus.GAME_NOT_FINISHED, play(geometry, last - winLength + 2, last, 1, 0, winLength - 1));
+        }
+    }
+
+    // Cells next to each other in cell order but on different rows are not a line
+    @Test
+    public void linesDoNotWrapAroundTheEdges() {
+        for(int[] sizes : GEOMETRIES) {
+            BoardGeometry geometry = BoardGeometry.of(sizes[0], sizes[1]);
+            int size = sizes[0], winLength = sizes[1];
+            for(int row = 0; row < size - 1; row++) {
+                for(int shift = 1; shift < winLength; shift++) {
+                    int firstCell = geometry.getCell(row, size - shift);
+                    assertEquals(GameStatus.GAME_NOT_FINISHED, playCells(geometry, firstCell, 1, winLength));
+                    assertEquals(GameStatus.GAME_NOT_FINISHED, playCells(geometry, firstCell, size + 1, winLength));
+                    if(row + winLength <= size)
+                        assertEquals(GameStatus.GAME_NOT_FINISHED,
+                                playCells(geometry, geometry.getCell(row, shift - 1), size - 1, winLength));
+                }
+            }
+        }
+    }
+
+    private static GameStatus play(BoardGeometry geometry, int row, int col, int rowStep, int colStep, int count) {
+        BoardUtilWithAILogic boardUtil = createBoard(geometry);
+        GameStatus status = null;
+        for(int i = 0; i < count; i++)
+            status = place(boardUtil, geometry.getCell(row + i * rowStep, col + i * colStep));
+        return status;
+    }
+
+    // Stops at the last cell of the board
+    private static GameStatus playCells(BoardGeometry geometry, int firstCell, int cellStep, int count) {
+        BoardUtilWithAILogic boardUtil = createBoard(geometry);
+        GameStatus status = null;
+        for(int i = 0, cell = firstCell; i < count && cell < geometry.getCellCount(); i++, cell += cellStep)
+            status = place(boardUtil, cell);
+        return status;
+    }
+
+    private static BoardUtilWithAILogic createBoard(BoardGeometry geometry) {
+        BoardUtilWithAILogic boardUtil = new BoardUtilWithAILogic(geometry);
+        boardUtil.initEmptyBoard();
+        return boardUtil;
+    }
+
+    private static GameStatus place(BoardUtil boardUtil, int cell) {
+        BoardGeometry geometry = boardUtil.getGeometry();
+        GameRound round = new GameRound(boardUtil, RoundType.MACHINE_ROUND);
+        round.setInputElement(Element.createElement(geometry.getRowIndex(cell), geometry.getColIndex(cell)));
+        round.setValue(BoardUtil.CHARS_ALLOWED[BoardUtil.X_INDEX]);
+        boardUtil.updateBoard(round.getInput(), round.getValue(), RoundType.MACHINE_ROUND);
+        return boardUtil.getGameStatus(round);
+    }
+}
@@ -0,0 +1,68 @@
+package tictactoe;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class BoardRendererTest {
+
+    @Test
+    public void bufferedRendererPrintsTheBoardOfTheOriginalDisplay() {
+        BufferedBoardRenderer renderer = new BufferedBoardRenderer();
+        BoardGeometry geometry = BoardGeometry.STANDARD;
+        for(BitBoard position : TestBoards.reachablePositions()) {
+            BoardUtil boardUtil = new BoardUtil(geometry);
+            boardUtil.initEmptyBoard();
+            for(int cell = 0; cell < geometry.getCellCount(); cell++) {
+                if(!position.isEmpty(cell))
+                    boardUtil.updateBoardValue(geometry.getRowIndex(cell), geometry.getColIndex(cell),
+                            position.getChar(cell));
+            }
+            char[][] board = boardUtil.getCopyOfBoard();
+            assertArrayEquals(print(() -> displayBoard(board)), print(() -> renderer.render(boardUtil)));
+        }
+    }
+
+    @Test
+    public void diffRendererPrintsOnlyTheChangedCells() {
+        BoardUtil boardUtil = new BoardUtil(BoardGeometry.of(4, 3));
+        boardUtil.initEmptyBoard();
+        DiffBoardRenderer renderer = new DiffBoardRenderer();
+        assertArrayEquals(print(() -> new BufferedBoardRenderer().render(boardUtil)),
+                print(() -> renderer.render(boardUtil)));
+        boardUtil.updateBoardValue(0, 3, 'X');
+        boardUtil.updateBoardValue(3, 0, 'O');
+        String separator = System.lineSeparator();
+        assertEquals("4 4: X" + separator + "1 1: O" + separator, new String(print(() -> renderer.render(boardUtil))));
+        assertEquals("", new String(print(() -> renderer.render(boardUtil))));
+    }
+
+    // displayBoard as it was before the renderers, one print call per cell
+    private static void displayBoard(char[][] board) {
+        System.out.println("---------");
+        for(int i = 0; i < 3; i++) {
+            System.out.print("| ");
+            for(int j = 0; j < 3; j++) {
+                System.out.print(board[i][j]+" ");
+            }
+            System.out.println("|");
+        }
+        System.out.println("---------");
+    }
+
+    private static byte[] print(Runnable display) {
+        PrintStream out = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output, true));
+        try {
+            display.run();
+        } finally {
+            System.setOut(out);
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,112 @@
+package tictactoe;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class BoardUtilTest {
+    private static final BoardGeometry[] GEOMETRIES = {BoardGeometry.STANDARD, BoardGeometry.of(4, 3),
+            BoardGeometry.of(5, 4), BoardGeometry.of(7, 5), BoardGeometry.of(15, 5)};
+    private static final int[] STRIDES = {1, 2, 5, 7, 11, 13};
+
+    // Walks the cells in a few fixed orders, stepping over cells already taken, and takes back the second half
+    @Test
+    public void undoMoveRestoresTheBoardExactly() {
+        for(BoardGeometry geometry : GEOMETRIES) {
+            int cellCount = geometry.getCellCount();
+            for(int stride : STRIDES) {
+                BoardUtilWithAILogic boardUtil = createBoard(geometry);
+                Element[] moves = new Element[cellCount];
+                boolean[] isTaken = new boolean[cellCount];
+                for(int i = 0, cell = stride % cellCount; i < cellCount; i++, cell = (cell + stride) % cellCount) {
+                    while(isTaken[cell])
+                        cell = (cell + 1) % cellCount;
+                    isTaken[cell] = true;
+                    moves[i] = Element.createElement(geometry.getRowIndex(cell), geometry.getColIndex(cell));
+                }
+                for(int split = 0; split <= cellCount; split += Math.max(1, cellCount / 4)) {
+                    for(int i = 0; i < split; i++)
+                        boardUtil.applyMove(moves[i], getMark(i));
+                    String before = describe(boardUtil);
+                    for(int i = split; i < cellCount; i++)
+                        boardUtil.applyMove(moves[i], getMark(i));
+                    for(int i = cellCount - 1; i >= split; i--)
+                        boardUtil.undoMove(moves[i]);
+                    assertEquals(before, describe(boardUtil));
+                    for(int i = split - 1; i >= 0; i--)
+                        boardUtil.undoMove(moves[i]);
+                    assertEquals(describe(createBoard(geometry)), describe(boardUtil));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void undoMoveOfAnEmptyCellChangesNothing() {
+        BoardUtilWithAILogic boardUtil = createBoard(BoardGeometry.of(5, 4));
+        boardUtil.applyMove(Element.createElement(2, 2), 'X');
+        String before = describe(boardUtil);
+        boardUtil.undoMove(Element.createElement(0, 0));
+        assertEquals(before, describe(boardUtil));
+    }
+
+    // The hard level searches the board of the round in place
+    @Test
+    public void hardMoveLeavesTheBoardAsItWas() {
+        List<BitBoard> positions = TestBoards.reachablePositions();
+        for(SearchMode searchMode : SearchMode.values()) {
+            for(int i = 0; i < positions.size(); i += 97) {
+                BitBoard position = positions.get(i);
+                BoardGeometry geometry = position.getGeometry();
+                BoardUtilWithAILogic boardUtil = createBoard(geometry);
+                for(int cell = 0; cell < geometry.getCellCount(); cell++) {
+                    if(position.isEmpty(cell))
+                        continue;
+                    Element element = Element.createElement(geometry.getRowIndex(cell), geometry.getColIndex(cell));
+                    boardUtil.applyMove(element, position.getChar(cell));
+                }
+                String before = describe(boardUtil);
+                HardGameStrategy strategy = new HardGameStrategy(searchMode,
+                        new TranspositionTable(TranspositionTable.DEFAULT_SIZE), SearchLimits.UNLIMITED);
+                strategy.chooseMove(new GameRound(boardUtil, RoundType.MACHINE_ROUND),
+                        BoardUtil.CHARS_ALLOWED[TestBoards.getSideToMove(position)]);
+                assertEquals(before, describe(boardUtil));
+            }
+        }
+    }
+
+    private static char getMark(int ply) {
+        return BoardUtil.CHARS_ALLOWED[ply % 2 == 0 ? BoardUtil.X_INDEX : BoardUtil.O_INDEX];
+    }
+
+    private static BoardUtilWithAILogic createBoard(BoardGeometry geometry) {
+        BoardUtilWithAILogic boardUtil = new BoardUtilWithAILogic(geometry);
+        boardUtil.initEmptyBoard();
+        return boardUtil;
+    }
+
+    // Everything applyMove touches: marks, statistics, the empty cell list, line counts and hashes
+    private static String describe(BoardUtil boardUtil) {
+        BitBoard board = boardUtil.getBitBoard();
+        BoardGeometry geometry = boardUtil.getGeometry();
+        StringBuilder description = new StringBuilder();
+        for(char[] row : boardUtil.getCopyOfBoard())
+            description.append(row).append('\n');
+        for(int count : boardUtil.getBoardStatistics())
+            description.append(count).append(' ');
+        description.append('\n');
+        for(Element element : boardUtil.getEmptySpaces())
+            description.append(element.getRowIndex()).append(',').append(element.getColIndex()).append(' ');
+        description.append('\n').append(board.getStoneCount()).append(' ').append(board.getWinningSide()).append('\n');
+        for(int side = BoardUtil.X_INDEX; side <= BoardUtil.O_INDEX; side++) {
+            for(int line = 0; line < geometry.getLineCount(); line++)
+                description.append(board.getLineCount(side, line));
+            description.append(' ').append(board.isWin(side)).append('\n');
+        }
+        for(int symmetry = 0; symmetry < BoardGeometry.SYMMETRY_COUNT; symmetry++)
+            description.append(board.getSymmetricHash(symmetry)).append(' ');
+        return description.toString();
+    }
+}
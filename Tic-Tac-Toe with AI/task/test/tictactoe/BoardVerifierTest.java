@@ -0,0 +1,83 @@
+package tictactoe;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BoardVerifierTest {
+    private static final BoardGeometry[] GEOMETRIES = {BoardGeometry.STANDARD, BoardGeometry.of(4, 4),
+            BoardGeometry.of(6, 4), BoardGeometry.of(9, 5)};
+
+    // The counters must follow marks taken back as well as marks played
+    @Test
+    public void statusFollowsGamesPlayedAndTakenBack() {
+        SplittableRandom random = new SplittableRandom(23);
+        for(BoardGeometry geometry : GEOMETRIES) {
+            for(int game = 0; game < 60; game++) {
+                BoardUtilWithAILogic boardUtil = new BoardUtilWithAILogic(geometry);
+                boardUtil.initEmptyBoard();
+                char[][] chars = TestBoards.emptyChars(geometry.getSize());
+                List<Element> played = new ArrayList<>();
+                GameStatus status = GameStatus.GAME_NOT_FINISHED;
+                while(status == GameStatus.GAME_NOT_FINISHED) {
+                    List<Element> emptySpaces = boardUtil.getEmptySpaces();
+                    Element element = emptySpaces.get(random.nextInt(emptySpaces.size()));
+                    char value = played.size() % 2 == 0 ? 'X' : 'O';
+                    boardUtil.applyMove(element, value);
+                    chars[element.getRowIndex()][element.getColIndex()] = value;
+                    played.add(element);
+                    status = boardUtil.getGameStatus(element);
+                    assertEquals(scanStatus(chars, geometry.getWinLength()), status);
+                    assertEquals(status, boardUtil.getBoardVerifier().getBoardStatus());
+                }
+                while(!played.isEmpty()) {
+                    Element element = played.remove(played.size() - 1);
+                    boardUtil.undoMove(element);
+                    chars[element.getRowIndex()][element.getColIndex()] = '_';
+                    assertEquals(scanStatus(chars, geometry.getWinLength()),
+                            boardUtil.getBoardVerifier().getBoardStatus());
+                }
+            }
+        }
+    }
+
+    // Every 3x3 board the fill stage can be given, including ones no game reaches
+    @Test
+    public void winningSideOfEveryFilledBoard() {
+        int bothCount = 0;
+        for(int code = 0; code < 19683; code++) {
+            BitBoard board = new BitBoard();
+            char[][] chars = TestBoards.emptyChars(3);
+            for(int cell = 0, rest = code; cell < 9; cell++, rest /= 3) {
+                board.setSide(cell, rest % 3);
+                chars[cell / 3][cell % 3] = BoardUtil.CHARS_ALLOWED[rest % 3];
+            }
+            boolean isXLine = TestBoards.hasAnyLine(chars, 'X', 3), isOLine = TestBoards.hasAnyLine(chars, 'O', 3);
+            int winningSide = board.getWinningSide();
+            if(isXLine && isOLine) {
+                bothCount++;
+                assertTrue(winningSide == BoardUtil.X_INDEX || winningSide == BoardUtil.O_INDEX);
+            } else
+                assertEquals("board " + code, isXLine ? BoardUtil.X_INDEX : isOLine ? BoardUtil.O_INDEX :
+                        BoardUtil.EMPTY_SPACE_INDEX, winningSide);
+        }
+        assertTrue(bothCount > 0);
+    }
+
+    private static GameStatus scanStatus(char[][] chars, int winLength) {
+        if(TestBoards.hasAnyLine(chars, 'X', winLength))
+            return GameStatus.X_WINS;
+        if(TestBoards.hasAnyLine(chars, 'O', winLength))
+            return GameStatus.O_WINS;
+        for(char[] row : chars) {
+            if(new String(row).indexOf('_') >= 0)
+                return GameStatus.GAME_NOT_FINISHED;
+        }
+        return GameStatus.DRAW;
+    }
+}
@@ -0,0 +1,176 @@
+package tictactoe;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GameAnalyzerTest {
+    // O answers the center with an edge, which loses to the fork X builds from move 3 on
+    private static final byte[] EDGE_REPLY = {4, 1, 0, 8, 6, 2, 3};
+    // Both sides play the best moves and the game is drawn
+    private static final byte[] PERFECT_DRAW = {4, 0, 8, 2, 1, 7, 6, 3, 5};
+
+    private Path directory;
+
+    @Before
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("game-analyzer-test");
+    }
+
+    @After
+    public void deleteDirectory() throws IOException {
+        TestBoards.deleteDirectory(directory);
+    }
+
+    @Test
+    public void blundersAreFoundWhereTheValueDrops() {
+        GameReplayer replayer = new GameReplayer(null);
+        GameAnalysis analysis = replayer.replay(record(EDGE_REPLY, GameStatus.X_WINS));
+        assertTrue(analysis.isValid());
+        assertEquals("X 4 moves, 0 blunders; O 3 moves, 1 blunders (1 losing, first on move 2)", summarize(analysis));
+        analysis = replayer.replay(record(PERFECT_DRAW, GameStatus.DRAW));
+        assertTrue(analysis.isValid());
+        assertEquals("X 5 moves, 0 blunders; O 4 moves, 0 blunders", summarize(analysis));
+    }
+
+    // The move table and the search must judge every move of a game alike
+    @Test
+    public void moveTableAgreesWithTheSearch() {
+        GameReplayer searching = new GameReplayer(null);
+        GameReplayer lookingUp = new GameReplayer(new MoveTableGenerator().generate());
+        SplittableRandom random = new SplittableRandom(2024);
+        for(int game = 0; game < 200; game++) {
+            GameRecord record = randomGame(random);
+            String expected = summarize(searching.replay(record));
+            assertEquals("game " + game, expected, summarize(lookingUp.replay(record)));
+        }
+    }
+
+    // X fills the first row of a 7x7 board while O plays the last one; only the moves around the win get a value
+    @Test
+    public void movesTheSearchCannotSolveAreUnscored() {
+        GameReplayer replayer = new GameReplayer(null, SearchLimits.ofNodes(2000));
+        GameRecord record = new GameRecord(GameType.MACHINE_MACHINE, new GameLevel[]{GameLevel.HARD, GameLevel.EASY},
+                0, BoardGeometry.of(7, 5), new byte[]{0, 48, 1, 47, 2, 46, 3, 45, 4}, GameStatus.X_WINS);
+        GameAnalysis analysis = replayer.replay(record);
+        assertTrue(analysis.isValid());
+        assertEquals(1, analysis.getMoveCount(0));
+        assertEquals(4, analysis.getUnscoredMoveCount(0));
+        assertEquals(0, analysis.getMoveCount(1));
+        assertEquals(4, analysis.getUnscoredMoveCount(1));
+        assertEquals("X 1 moves, 0 blunders; O 0 moves, 0 blunders", summarize(analysis));
+    }
+
+    @Test
+    public void gamesThatDoNotReplayAreInvalid() {
+        GameReplayer replayer = new GameReplayer(null);
+        // Wrong result, a taken cell, a cell off the board and a move after the win
+        assertFalse(replayer.replay(record(PERFECT_DRAW, GameStatus.X_WINS)).isValid());
+        assertFalse(replayer.replay(record(new byte[]{0, 0}, GameStatus.GAME_NOT_FINISHED)).isValid());
+        assertFalse(replayer.replay(record(new byte[]{0, 9}, GameStatus.GAME_NOT_FINISHED)).isValid());
+        assertFalse(replayer.replay(record(new byte[]{0, 3, 1, 4, 2, 5}, GameStatus.X_WINS)).isValid());
+        // The board is left empty after each of them
+        assertTrue(replayer.replay(record(EDGE_REPLY, GameStatus.X_WINS)).isValid());
+    }
+
+    @Test
+    public void analyzerSumsEverySegmentAndSkipsCorruptRecords() throws IOException {
+        List<GameRecord> records = new ArrayList<>();
+        for(int i = 0; i < 3; i++) {
+            records.add(record(EDGE_REPLY, GameStatus.X_WINS));
+            records.add(record(PERFECT_DRAW, GameStatus.DRAW));
+        }
+        Path lastSegment = null;
+        for(int i = 0; i < 3; i++) {
+            try(GameLog log = new GameLog(directory, GameLog.DEFAULT_SEGMENT_BYTES, 0)) {
+                records.forEach(log::append);
+                log.append(record(EDGE_REPLY, GameStatus.O_WINS));
+                lastSegment = log.getSegmentPath();
+            }
+        }
+        // Cuts the last segment short after its fifth record
+        TestBoards.flipBit(lastSegment, TestBoards.getRecordOffset(records, 5) + Short.BYTES);
+        BlunderStats stats = new GameAnalyzer(null, 3, null).analyze(GameLog.listSegments(directory));
+        assertEquals(6 + 6 + 5, stats.getGameCount());
+        assertEquals(2, stats.getInvalidCount());
+        assertEquals(9, stats.getResultCount(GameStatus.X_WINS));
+        assertEquals(8, stats.getResultCount(GameStatus.DRAW));
+        assertEquals(17, stats.getGameCount(GameLevel.HARD));
+        assertEquals(9 * 4 + 8 * 5, stats.getMoveCount(GameLevel.HARD));
+        assertEquals(0, stats.getBlunderCount(GameLevel.HARD));
+        assertEquals(9 * 3 + 8 * 4, stats.getMoveCount(GameLevel.MEDIUM));
+        assertEquals(9, stats.getBlunderCount(GameLevel.MEDIUM));
+        assertEquals(9, stats.getLosingBlunderCount(GameLevel.MEDIUM));
+    }
+
+    @Test
+    public void perGameLinesNameTheSegmentAndRecord() throws IOException {
+        try(GameLog log = new GameLog(directory, GameLog.DEFAULT_SEGMENT_BYTES, 0)) {
+            log.append(record(PERFECT_DRAW, GameStatus.DRAW));
+            log.append(record(EDGE_REPLY, GameStatus.DRAW));
+            log.append(record(EDGE_REPLY, GameStatus.X_WINS));
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new GameAnalyzer(null, 1, new PrintStream(output, true, StandardCharsets.UTF_8))
+                .analyze(GameLog.listSegments(directory));
+        String newLine = System.lineSeparator();
+        assertEquals("games-00000000.log#0 hard vs medium 3x3: Draw in 9 moves, X blunders 0, O blunders 0" + newLine +
+                "games-00000000.log#1 hard vs medium 3x3: does not replay" + newLine +
+                "games-00000000.log#2 hard vs medium 3x3: X wins in 7 moves, X blunders 0, O blunders 1 " +
+                "(first on move 2)" + newLine, output.toString(StandardCharsets.UTF_8));
+    }
+
+    private static GameRecord record(byte[] moves, GameStatus result) {
+        return new GameRecord(GameType.MACHINE_MACHINE, new GameLevel[]{GameLevel.HARD, GameLevel.MEDIUM}, 0,
+                BoardGeometry.STANDARD, moves, result);
+    }
+
+    private static GameRecord randomGame(SplittableRandom random) {
+        BitBoard board = new BitBoard();
+        byte[] moves = new byte[board.getGeometry().getCellCount()];
+        int moveCount = 0;
+        GameStatus result = GameStatus.DRAW;
+        for(int side = BoardUtil.X_INDEX; !board.isFull(); side = BitBoard.getOtherSide(side)) {
+            int cell;
+            do {
+                cell = random.nextInt(moves.length);
+            } while(!board.isEmpty(cell));
+            board.place(cell, side);
+            moves[moveCount++] = (byte) cell;
+            if(board.isWinThrough(cell, side)) {
+                result = side == BoardUtil.X_INDEX ? GameStatus.X_WINS : GameStatus.O_WINS;
+                break;
+            }
+        }
+        byte[] played = new byte[moveCount];
+        System.arraycopy(moves, 0, played, 0, moveCount);
+        return new GameRecord(GameType.MACHINE_MACHINE, new GameLevel[]{GameLevel.EASY, GameLevel.EASY},
+                random.nextLong(), BoardGeometry.STANDARD, played, result);
+    }
+
+    private static String summarize(GameAnalysis analysis) {
+        StringBuilder summary = new StringBuilder();
+        for(int player = 0; player < 2; player++) {
+            summary.append(player == 0 ? "X " : "; O ").append(analysis.getMoveCount(player)).append(" moves, ")
+                    .append(analysis.getBlunderCount(player)).append(" blunders");
+            if(analysis.getBlunderCount(player) > 0)
+                summary.append(" (").append(analysis.getLosingBlunderCount(player)).append(" losing, first on move ")
+                        .append(analysis.getFirstBlunder(player)).append(')');
+        }
+        return summary.toString();
+    }
+}
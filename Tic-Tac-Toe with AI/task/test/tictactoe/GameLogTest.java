@@ -0,0 +1,185 @@
+package tictactoe;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class GameLogTest {
+    private Path directory;
+
+    @Before
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("game-log-test");
+    }
+
+    @After
+    public void deleteDirectory() throws IOException {
+        TestBoards.deleteDirectory(directory);
+    }
+
+    @Test
+    public void recordsComeBackFieldForField() throws IOException {
+        List<GameRecord> records = sampleRecords();
+        try(GameLog log = new GameLog(directory, GameLog.DEFAULT_SEGMENT_BYTES, 0)) {
+            records.forEach(log::append);
+            assertEquals(records.size(), log.getRecordCount());
+        }
+        assertEquals(describe(records), describe(readLog()));
+    }
+
+    @Test
+    public void fullSegmentsRollToTheNextIndex() throws IOException {
+        List<GameRecord> records = new ArrayList<>();
+        for(int seed = 0; seed < 100; seed++)
+            records.add(new GameRecord(GameType.MACHINE_MACHINE, new GameLevel[]{GameLevel.MEDIUM, GameLevel.HARD},
+                    seed, BoardGeometry.STANDARD, new byte[]{0, 4, 8, 2, 6, 3, 5, 1, 7}, GameStatus.DRAW));
+        try(GameLog log = new GameLog(directory, 1024, 0)) {
+            records.forEach(log::append);
+        }
+        List<String> names = GameLog.listSegments(directory).stream()
+                .map(segment -> segment.getFileName().toString()).collect(Collectors.toList());
+        // A 16 byte header, 30 bytes a record and the 2 byte end mark leave room for 33 records a segment
+        assertEquals(Arrays.asList("games-00000000.log", "games-00000001.log", "games-00000002.log",
+                "games-00000003.log"), names);
+        assertEquals(describe(records), describe(readLog()));
+    }
+
+    // Appends from several threads roll through premapped segments while the log syncs every millisecond
+    @Test
+    public void appendsFromManyThreadsAllComeBack() throws IOException, InterruptedException {
+        GameRecord record = new GameRecord(GameType.MACHINE_MACHINE, new GameLevel[]{GameLevel.EASY, GameLevel.EASY},
+                1, BoardGeometry.STANDARD, new byte[]{0, 4, 8, 2, 6, 3, 5, 1, 7}, GameStatus.DRAW);
+        Thread[] threads = new Thread[4];
+        try(GameLog log = new GameLog(directory, 1024, 1)) {
+            for(int i = 0; i < threads.length; i++) {
+                threads[i] = new Thread(() -> {
+                    for(int n = 0; n < 250; n++) {
+                        log.append(record);
+                        if(n % 50 == 0)
+                            log.sync();
+                    }
+                });
+                threads[i].start();
+            }
+            for(Thread thread : threads)
+                thread.join();
+            assertEquals(1000, log.getRecordCount());
+        }
+        // 33 records a segment, and the segment mapped ahead of the last one is gone
+        assertEquals(31, GameLog.listSegments(directory).size());
+        assertEquals(1000, readLog().size());
+    }
+
+    @Test
+    public void reopenedLogNeverWritesOverASegment() throws IOException {
+        List<GameRecord> records = sampleRecords();
+        Files.createFile(directory.resolve("games-00000041.log"));
+        Files.createFile(directory.resolve("notes.txt"));
+        try(GameLog log = new GameLog(directory, GameLog.DEFAULT_SEGMENT_BYTES, 0)) {
+            assertEquals(directory.resolve("games-00000042.log"), log.getSegmentPath());
+            log.append(records.get(0));
+        }
+        try(GameLog log = new GameLog(directory, GameLog.DEFAULT_SEGMENT_BYTES, 0)) {
+            assertEquals(directory.resolve("games-00000043.log"), log.getSegmentPath());
+            log.append(records.get(1));
+        }
+        List<GameRecord> read = new ArrayList<>();
+        List<Path> segments = GameLog.listSegments(directory);
+        assertEquals(3, segments.size());
+        for(Path segment : segments.subList(1, 3))
+            GameLog.read(segment, read::add);
+        assertEquals(describe(records.subList(0, 2)), describe(read));
+    }
+
+    // Any flipped bit of a record, its length and checksum included, ends the segment before it
+    @Test
+    public void everyCorruptByteOfARecordIsCaught() throws IOException {
+        List<GameRecord> records = sampleRecords();
+        Path segment;
+        try(GameLog log = new GameLog(directory, GameLog.DEFAULT_SEGMENT_BYTES, 0)) {
+            records.forEach(log::append);
+            segment = log.getSegmentPath();
+        }
+        for(long offset = TestBoards.getRecordOffset(records, 1); offset < TestBoards.getRecordOffset(records, 2);
+            offset++) {
+            TestBoards.flipBit(segment, offset);
+            List<GameRecord> read = new ArrayList<>();
+            assertEquals("offset " + offset, 1, GameLog.read(segment, read::add));
+            assertEquals(describe(records.subList(0, 1)), describe(read));
+            TestBoards.flipBit(segment, offset);
+        }
+        assertEquals(records.size(), GameLog.read(segment, record -> { }));
+    }
+
+    @Test
+    public void closedLogRefusesRecords() throws IOException {
+        GameLog log = new GameLog(directory, GameLog.DEFAULT_SEGMENT_BYTES, 0);
+        log.close();
+        log.close();
+        try {
+            log.append(sampleRecords().get(0));
+            fail("A closed log took a record");
+        } catch(IllegalStateException e) {
+            assertEquals("The game log is closed", e.getMessage());
+        }
+    }
+
+    @Test
+    public void tooSmallSegmentsAreRejected() throws IOException {
+        try {
+            new GameLog(directory, 256, 0).close();
+            fail("A 256 byte segment was accepted");
+        } catch(IllegalArgumentException e) {
+            assertEquals("Segments of 256 bytes cannot hold a game", e.getMessage());
+        }
+    }
+
+    // One of each game type, user levels, extreme seeds and the largest board filled move by move
+    private static List<GameRecord> sampleRecords() {
+        BoardGeometry largest = BoardGeometry.of(BoardGeometry.MAX_SIZE, 5);
+        byte[] allCells = new byte[largest.getCellCount()];
+        for(int cell = 0; cell < allCells.length; cell++)
+            allCells[cell] = (byte) (allCells.length - 1 - cell);
+        return Arrays.asList(
+                new GameRecord(GameType.MACHINE_MACHINE, new GameLevel[]{GameLevel.EASY, GameLevel.HARD},
+                        Long.MAX_VALUE, BoardGeometry.STANDARD, new byte[]{0, 4, 1, 2, 6, 3, 5, 7, 8}, GameStatus.DRAW),
+                new GameRecord(GameType.USER_MACHINE, new GameLevel[]{null, GameLevel.MEDIUM},
+                        -7, BoardGeometry.of(5, 4), new byte[]{6, 0, 12, 1, 18, 2, 24}, GameStatus.X_WINS),
+                new GameRecord(GameType.MACHINE_USER, new GameLevel[]{GameLevel.HARD, null},
+                        Long.MIN_VALUE, largest, allCells, GameStatus.DRAW),
+                new GameRecord(GameType.USER_USER, new GameLevel[]{null, null},
+                        0, BoardGeometry.of(4, 3), new byte[]{15}, GameStatus.GAME_NOT_FINISHED));
+    }
+
+    private List<GameRecord> readLog() throws IOException {
+        List<GameRecord> records = new ArrayList<>();
+        for(Path segment : GameLog.listSegments(directory))
+            GameLog.read(segment, records::add);
+        return records;
+    }
+
+    private static List<String> describe(List<GameRecord> records) {
+        List<String> descriptions = new ArrayList<>();
+        for(GameRecord record : records) {
+            StringBuilder description = new StringBuilder().append(record.getGameType()).append(' ')
+                    .append(record.getLevel(0)).append(" vs ").append(record.getLevel(1)).append(' ')
+                    .append(record.getGeometry().getSize()).append('/').append(record.getGeometry().getWinLength())
+                    .append(" seed ").append(record.getSeed()).append(':');
+            for(int i = 0; i < record.getMoveCount(); i++)
+                description.append(' ').append(record.getMove(i));
+            descriptions.add(description.append(" = ").append(record.getResult()).toString());
+        }
+        return descriptions;
+    }
+}
@@ -0,0 +1,132 @@
+package tictactoe;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GameServerTest {
+    private static final String NEW_LINE = System.lineSeparator();
+
+    private GameServer server;
+    private Thread serverThread;
+
+    @Before
+    public void startServer() throws IOException {
+        server = new GameServer(0, 2, 16, 0);
+        server.open();
+        serverThread = new Thread(() -> {
+            try {
+                server.serve();
+            } catch(IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, "game-server-test");
+        serverThread.start();
+    }
+
+    @After
+    public void stopServer() throws InterruptedException {
+        server.stop();
+        serverThread.join();
+    }
+
+    @Test
+    public void userGameReadsLikeTheConsole() throws IOException {
+        String expected = "Input command: " + frame("___", "___", "___") +
+                "Enter the coordinates: " + frame("___", "___", "X__") +
+                "Enter the coordinates: " + frame("___", "_O_", "X__") +
+                "Enter the coordinates: " + frame("___", "XO_", "X__") +
+                "Enter the coordinates: " + frame("___", "XO_", "XO_") +
+                "Enter the coordinates: " + frame("X__", "XO_", "XO_") +
+                "X wins" + NEW_LINE + "Input command: ";
+        assertEquals(expected, talk("start user user", "1 1", "2 2", "1 2", "2 1", "1 3", "exit"));
+    }
+
+    @Test
+    public void badInputGetsTheConsoleMessages() throws IOException {
+        String expected = "Input command: Bad parameters!" + NEW_LINE +
+                "Input command: " + frame("___", "___", "___") +
+                "Enter the coordinates: You should enter numbers!" + NEW_LINE +
+                "Enter the coordinates: Coordinates should be from 1 to 3!" + NEW_LINE +
+                "Enter the coordinates: " + frame("___", "_X_", "___") +
+                "Enter the coordinates: This cell is occupied! Choose another one!" + NEW_LINE +
+                "Enter the coordinates: ";
+        String transcript = talk("start foo", "start user user", "a b", "4 1", "2 2", "2 2", "1 1", "2 1", "3 1", "2 3",
+                "exit");
+        assertTrue(transcript.startsWith(expected));
+        assertTrue(transcript.endsWith(frame("_X_", "_X_", "OXO") + "X wins" + NEW_LINE + "Input command: "));
+    }
+
+    // Lines sent while the workers choose machine moves wait for the game to end
+    @Test
+    public void pipelinedMachineGamesAllFinish() throws IOException {
+        String transcript = talk("start hard hard", "start easy medium", "start medium easy", "exit");
+        assertEquals(4, transcript.split("Input command: ", -1).length - 1);
+        assertTrue(transcript.contains("Making move level \"hard\"" + NEW_LINE));
+        assertTrue(transcript.contains("Making move level \"medium\"" + NEW_LINE));
+        assertTrue(transcript.endsWith(NEW_LINE + "Input command: "));
+        assertEquals(3, server.getStats().getFinishedGames());
+    }
+
+    // A hard move on 7x7 searches for up to a second; the lines sent meanwhile fill several read buffers, which
+    // the server leaves in the socket until the move is played
+    @Test
+    public void linesSentDuringAMachineMoveAreAllAnswered() throws IOException {
+        int lineCount = 3000;
+        String error = "Coordinates should be from 1 to 7!" + NEW_LINE;
+        try(Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            socket.setSoTimeout(30_000);
+            StringBuilder lines = new StringBuilder("start hard user 7 5\n");
+            for(int i = 0; i < lineCount; i++)
+                lines.append("9 9\n");
+            socket.getOutputStream().write(lines.toString().getBytes(StandardCharsets.UTF_8));
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            InputStream input = socket.getInputStream();
+            byte[] buffer = new byte[4096];
+            String transcript = "";
+            String prompt = "Enter the coordinates: ";
+            while(!transcript.endsWith(prompt) || transcript.split(error, -1).length - 1 < lineCount) {
+                int count = input.read(buffer);
+                assertTrue(count > 0);
+                output.write(buffer, 0, count);
+                transcript = output.toString(StandardCharsets.UTF_8);
+            }
+            int errorIndex = transcript.indexOf(error);
+            assertTrue(transcript.indexOf("Making move level \"hard\"") < errorIndex);
+            assertTrue(transcript.indexOf(prompt) < errorIndex);
+            assertEquals(lineCount, transcript.split(error, -1).length - 1);
+        }
+    }
+
+    // The server closes the connection after exit, so everything it sent is in
+    private String talk(String... lines) throws IOException {
+        try(Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            socket.setSoTimeout(30_000);
+            socket.getOutputStream().write((String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8));
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            InputStream input = socket.getInputStream();
+            byte[] buffer = new byte[4096];
+            for(int count; (count = input.read(buffer)) > 0; )
+                output.write(buffer, 0, count);
+            return output.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String frame(String... rows) {
+        StringBuilder frame = new StringBuilder("---------").append(NEW_LINE);
+        for(String row : rows)
+            frame.append("| ").append(String.join(" ", row.split(""))).append(" |").append(NEW_LINE);
+        return frame.append("---------").append(NEW_LINE).toString();
+    }
+}
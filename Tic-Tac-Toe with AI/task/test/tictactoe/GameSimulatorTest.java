@@ -0,0 +1,96 @@
+package tictactoe;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GameSimulatorTest {
+    private static final BoardGeometry GEOMETRY = BoardGeometry.of(5, 4);
+
+    @Test
+    public void sameSeedReplaysTheSameGame() {
+        GameSimulator simulator = new GameSimulator(GameLevel.EASY, GameLevel.MEDIUM, GEOMETRY, 1);
+        Set<String> games = new HashSet<>();
+        for(int gameId = 0; gameId < 20; gameId++) {
+            long seed = GameSeeds.getGameSeed(ComputerStrategy.RANDOM_SEED, gameId);
+            String game = playGame(simulator, seed);
+            assertEquals(game, playGame(simulator, seed));
+            games.add(game);
+        }
+        // Neighbouring game ids must not give the same game
+        assertTrue(games.size() > 15);
+    }
+
+    @Test
+    public void totalsDoNotDependOnTheThreadCount() {
+        SimulationResult expected = new GameSimulator(GameLevel.EASY, GameLevel.EASY, GEOMETRY, 1).simulate(120);
+        for(int threadCount = 2; threadCount <= 5; threadCount++) {
+            SimulationResult result = new GameSimulator(GameLevel.EASY, GameLevel.EASY, GEOMETRY, threadCount)
+                    .simulate(120);
+            assertEquals(expected.getXWinCount(), result.getXWinCount());
+            assertEquals(expected.getOWinCount(), result.getOWinCount());
+            assertEquals(expected.getDrawCount(), result.getDrawCount());
+            assertTrue(expected.getAverageGameLength() == result.getAverageGameLength());
+        }
+    }
+
+    // The cells of the game in the order they were played
+    private static String playGame(GameSimulator simulator, long seed) {
+        StringBuilder moves = new StringBuilder();
+        ComputerStrategy[] strategies = simulator.createStrategies();
+        for(int i = 0; i < strategies.length; i++)
+            strategies[i] = new RecordingStrategy(strategies[i], moves);
+        simulator.playGame(strategies, seed, new SimulationResult());
+        return moves.toString();
+    }
+
+    private static class RecordingStrategy implements ComputerStrategy {
+        private final ComputerStrategy strategy;
+        private final StringBuilder moves;
+
+        RecordingStrategy(ComputerStrategy strategy, StringBuilder moves) {
+            this.strategy = strategy;
+            this.moves = moves;
+        }
+
+        @Override
+        public Element makeMove(GameRound round, char value) {
+            return strategy.makeMove(round, value);
+        }
+
+        @Override
+        public Element chooseMove(GameRound round, char value) {
+            return record(strategy.chooseMove(round, value));
+        }
+
+        @Override
+        public Element playMove(GameRound round, char value) {
+            return record(strategy.playMove(round, value));
+        }
+
+        @Override
+        public void flushMetrics() {
+            strategy.flushMetrics();
+        }
+
+        @Override
+        public GameLevel getLevel() {
+            return strategy.getLevel();
+        }
+
+        @Override
+        public void setRandom(SplittableRandom random) {
+            strategy.setRandom(random);
+        }
+
+        private Element record(Element element) {
+            moves.append(element.getRowIndex()).append(',').append(element.getColIndex()).append(' ');
+            return element;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package tictactoe;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class GameStrategyTest {
+
+    @Test
+    public void mediumWinsBeforeItBlocks() {
+        // X can finish the top row and O the middle one
+        BitBoard board = toBoard("XX_" + "OO_" + "X__");
+        for(long seed = 0; seed < 10; seed++) {
+            assertEquals(2, chooseCell(new MediumGameStrategy(), board, BoardUtil.X_INDEX, seed));
+            assertEquals(5, chooseCell(new MediumGameStrategy(), board, BoardUtil.O_INDEX, seed));
+        }
+        // Only X has a line to finish, so O blocks it
+        assertEquals(3, chooseCell(new MediumGameStrategy(), toBoard("X__" + "___" + "X_O"), BoardUtil.O_INDEX, 0));
+        assertEquals(0, chooseCell(new MediumGameStrategy(), toBoard("___" + "_X_" + "O_X"), BoardUtil.O_INDEX, 0));
+    }
+
+    @Test
+    public void easyKeepsOffCellsThatFinishALine() {
+        // 1 and 5 each finish a line for both sides, which leaves 6
+        BitBoard board = toBoard("O_O" + "XX_" + "_XO");
+        for(long seed = 0; seed < 10; seed++)
+            assertEquals(6, chooseCell(new EasyGameStrategy(), board, BoardUtil.X_INDEX, seed));
+    }
+
+    // Every reachable 3x3 position and random positions on larger boards, three choices in a row each
+    @Test
+    public void easyAndMediumChooseWhatTheCellListsChose() {
+        List<BitBoard> positions = new ArrayList<>(TestBoards.reachablePositions());
+        SplittableRandom random = new SplittableRandom(25);
+        SplittableRandom seeds = new SplittableRandom(2025);
+        for(BoardGeometry geometry : new BoardGeometry[]{BoardGeometry.of(5, 4), BoardGeometry.of(8, 5),
+                BoardGeometry.of(BoardGeometry.MAX_SIZE, 5)}) {
+            for(int n = 0; n < 200; n++) {
+                BitBoard board = new BitBoard(geometry);
+                for(int stones = random.nextInt(geometry.getCellCount()); stones > 0; stones--) {
+                    int cell = random.nextInt(geometry.getCellCount());
+                    if(board.isEmpty(cell))
+                        board.place(cell, random.nextBoolean() ? BoardUtil.X_INDEX : BoardUtil.O_INDEX);
+                }
+                if(!board.isFull())
+                    positions.add(board);
+            }
+        }
+        for(BitBoard board : positions) {
+            BoardUtilWithAILogic boardUtil = TestBoards.toBoardUtil(board);
+            GameRound round = new GameRound(boardUtil, RoundType.MACHINE_ROUND);
+            char value = BoardUtil.CHARS_ALLOWED[TestBoards.getSideToMove(board)];
+            long seed = seeds.nextLong();
+            EasyGameStrategy easy = new EasyGameStrategy();
+            easy.setRandom(new SplittableRandom(seed));
+            MediumGameStrategy medium = new MediumGameStrategy();
+            medium.setRandom(new SplittableRandom(seed));
+            SplittableRandom easyRandom = new SplittableRandom(seed), mediumRandom = new SplittableRandom(seed);
+            for(int i = 0; i < 3; i++) {
+                assertSame(chooseEasyMove(boardUtil, value, easyRandom), easy.chooseMove(round, value));
+                assertSame(chooseMediumMove(boardUtil, value, mediumRandom), medium.chooseMove(round, value));
+            }
+        }
+    }
+
+    private static int chooseCell(ComputerStrategy strategy, BitBoard board, int side, long seed) {
+        strategy.setRandom(new SplittableRandom(seed));
+        return TestBoards.chooseCell(strategy, board, side);
+    }
+
+    private static BitBoard toBoard(String cells) {
+        BitBoard board = new BitBoard();
+        for(int cell = 0; cell < cells.length(); cell++)
+            board.setSide(cell, BitBoard.getSide(cells.charAt(cell)));
+        return board;
+    }
+
+    // Easy as it was written before the line masks: a random cell that finishes no line for either side
+    private static Element chooseEasyMove(BoardUtilWithAILogic boardUtil, char value, SplittableRandom random) {
+        BoardVerifierWithAILogic boardVerifier = (BoardVerifierWithAILogic) boardUtil.getBoardVerifier();
+        char otherValue = value == 'X' ? 'O' : 'X';
+        List<Element> emptySpaces = boardUtil.getEmptySpaces();
+        List<Element> safeSpaces = emptySpaces.stream()
+                .filter(element -> !boardVerifier.shouldThisElementBeAvoided(element, otherValue))
+                .filter(element -> !boardVerifier.shouldThisElementBeAvoided(element, value))
+                .collect(Collectors.toList());
+        List<Element> choices = safeSpaces.isEmpty() ? emptySpaces : safeSpaces;
+        return choices.get(random.nextInt(choices.size()));
+    }
+
+    // Medium as it was: the first winning cell, then the first blocking cell, then a random one
+    private static Element chooseMediumMove(BoardUtilWithAILogic boardUtil, char value, SplittableRandom random) {
+        BoardVerifierWithAILogic boardVerifier = (BoardVerifierWithAILogic) boardUtil.getBoardVerifier();
+        char otherValue = value == 'X' ? 'O' : 'X';
+        List<Element> emptySpaces = boardUtil.getEmptySpaces();
+        for(char finishing : new char[]{value, otherValue}) {
+            for(Element element : emptySpaces) {
+                if(boardVerifier.shouldThisElementBeAvoided(element, finishing))
+                    return element;
+            }
+        }
+        return emptySpaces.get(random.nextInt(emptySpaces.size()));
+    }
+}
@@ -0,0 +1,93 @@
+package tictactoe;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+public class HardGameStrategyTest {
+    private final Map<Integer, Integer> values = new HashMap<>();
+
+    @Test
+    public void alphaBetaScoresEveryPositionLikeMinimax() {
+        List<BitBoard> positions = TestBoards.reachablePositions();
+        assertEquals(4520, positions.size());
+        for(BitBoard board : positions) {
+            int side = TestBoards.getSideToMove(board);
+            int minimaxCell = TestBoards.chooseCell(new HardGameStrategy(SearchMode.MINIMAX), board, side);
+            HardGameStrategy alphaBeta = new HardGameStrategy(SearchMode.ALPHA_BETA,
+                    new TranspositionTable(TranspositionTable.DEFAULT_SIZE), SearchLimits.UNLIMITED);
+            Move move = alphaBeta.getBestMove(board, side);
+            assertEquals(getValue(board, side) * HardGameStrategy.WIN_SCORE_UNIT, move.getScore());
+            assertEquals(getValue(board, side), getMoveValue(board, minimaxCell, side));
+            assertEquals(minimaxCell, board.getGeometry().getCell(move.getElement()));
+        }
+    }
+
+    // Each mode gets its own table, so the parallel search cannot lean on the sequential one
+    @Test
+    public void parallelScoresLikeIterativeDeepening() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for(BitBoard board : TestBoards.reachablePositions())
+                checkParallelMove(board, pool);
+            // The 4x4 openings where the center two rows are filled in, two marks a side, X moving
+            BoardGeometry geometry = BoardGeometry.of(4, 3);
+            for(int code = 0; code < 1 << 8; code++) {
+                if(Integer.bitCount(code) != 4)
+                    continue;
+                BitBoard board = new BitBoard(geometry);
+                for(int i = 0; i < 8; i++) {
+                    int cell = geometry.getCell(1 + i / 4, i % 4);
+                    board.place(cell, (code & 1 << i) != 0 ? BoardUtil.X_INDEX : BoardUtil.O_INDEX);
+                }
+                if(board.getWinningSide() == BoardUtil.EMPTY_SPACE_INDEX)
+                    checkParallelMove(board, pool);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void checkParallelMove(BitBoard board, ForkJoinPool pool) {
+        int side = TestBoards.getSideToMove(board);
+        Move move = new HardGameStrategy(SearchMode.ITERATIVE_DEEPENING,
+                new TranspositionTable(TranspositionTable.DEFAULT_SIZE), SearchLimits.UNLIMITED)
+                .getBestMove(board, side);
+        Move parallelMove = new HardGameStrategy(SearchMode.PARALLEL,
+                new TranspositionTable(TranspositionTable.DEFAULT_SIZE), SearchLimits.UNLIMITED, pool)
+                .getBestMove(board, side);
+        assertEquals(move.getScore(), parallelMove.getScore());
+        assertEquals(move.getElement().getRowIndex(), parallelMove.getElement().getRowIndex());
+        assertEquals(move.getElement().getColIndex(), parallelMove.getElement().getColIndex());
+    }
+
+    // Plain negamax: a win scores 10 less the marks on the board, so sooner wins score higher
+    private int getValue(BitBoard board, int side) {
+        Integer value = values.get(TestBoards.getCode(board));
+        if(value == null) {
+            value = Integer.MIN_VALUE;
+            for(int cell = 0; cell < board.getGeometry().getCellCount(); cell++) {
+                if(board.isEmpty(cell))
+                    value = Math.max(value, getMoveValue(board, cell, side));
+            }
+            values.put(TestBoards.getCode(board), value);
+        }
+        return value;
+    }
+
+    private int getMoveValue(BitBoard board, int cell, int side) {
+        if(board.isWinningMove(cell, side))
+            return 10 - (board.getStoneCount() + 1);
+        if(board.getStoneCount() + 1 == board.getGeometry().getCellCount())
+            return 0;
+        board.place(cell, side);
+        int value = -getValue(board, BitBoard.getOtherSide(side));
+        board.clear(cell);
+        return value;
+    }
+}
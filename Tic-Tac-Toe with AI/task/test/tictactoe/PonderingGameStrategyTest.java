@@ -0,0 +1,49 @@
+package tictactoe;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PonderingGameStrategyTest {
+    private static final BoardGeometry GEOMETRY = BoardGeometry.of(4, 4);
+
+    // The user, X, is to move with three marks each on the board
+    private static final String PONDERED = "XO_O" + "OX_X" + "____" + "____";
+    // Three moves on instead of one, as after a game the strategy did not see
+    private static final String MOVED_ON = "XO_O" + "OX_X" + "X_O_" + "___X";
+
+    @Test
+    public void boardThatIsNotOneMoveOnIsSearchedAfresh() {
+        PonderingGameStrategy strategy = new PonderingGameStrategy(new HardGameStrategy());
+        strategy.startPondering(toBoard(PONDERED), 'O');
+        BitBoard board = toBoard(MOVED_ON);
+        int cell = TestBoards.chooseCell(strategy, board, BoardUtil.O_INDEX);
+        assertEquals(TestBoards.chooseCell(new HardGameStrategy(), board, BoardUtil.O_INDEX), cell);
+        assertEquals(0, strategy.getHitCount());
+        assertEquals(1, strategy.getMissCount());
+        assertTrue(strategy.getNodeCount() > 0);
+    }
+
+    // Each pondered reply may search for a second, stopping must not wait for it
+    @Test
+    public void stopPonderingReturnsPromptly() throws InterruptedException {
+        PonderingGameStrategy strategy = new PonderingGameStrategy(new HardGameStrategy());
+        strategy.startPondering(new BitBoard(BoardGeometry.of(7, 5)), 'O');
+        Thread.sleep(100);
+        long startTime = System.nanoTime();
+        strategy.stopPondering();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        assertTrue("stopPondering took " + elapsedMillis + " ms", elapsedMillis < SearchLimits.DEFAULT_TIME_MILLIS / 2);
+        strategy.stopPondering();
+    }
+
+    private static BitBoard toBoard(String cells) {
+        BitBoard board = new BitBoard(GEOMETRY);
+        for(int cell = 0; cell < cells.length(); cell++)
+            board.setSide(cell, BitBoard.getSide(cells.charAt(cell)));
+        return board;
+    }
+}
@@ -0,0 +1,139 @@
+package tictactoe;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// Boards as plain char grids, with a line scan to check the engine's win detection against,
+// and the temporary files of the game log tests
+final class TestBoards {
+    private static final int[][] DIRECTIONS = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+
+    static char[][] emptyChars(int size) {
+        char[][] chars = new char[size][size];
+        for(char[] row : chars)
+            Arrays.fill(row, '_');
+        return chars;
+    }
+
+    static boolean hasAnyLine(char[][] chars, char c, int winLength) {
+        for(int row = 0; row < chars.length; row++) {
+            for(int col = 0; col < chars.length; col++) {
+                if(chars[row][col] == c && hasLineThrough(chars, row, col, winLength))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    // Counts the run of the cell's mark both ways along each direction
+    static boolean hasLineThrough(char[][] chars, int row, int col, int winLength) {
+        char c = chars[row][col];
+        for(int[] direction : DIRECTIONS) {
+            int count = 1;
+            for(int sign = -1; sign <= 1; sign += 2) {
+                int i = row + sign * direction[0], j = col + sign * direction[1];
+                while(i >= 0 && i < chars.length && j >= 0 && j < chars.length && chars[i][j] == c) {
+                    count++;
+                    i += sign * direction[0];
+                    j += sign * direction[1];
+                }
+            }
+            if(count >= winLength)
+                return true;
+        }
+        return false;
+    }
+
+    // The positions of a 3x3 game that is not over yet, each once, X moving first
+    static List<BitBoard> reachablePositions() {
+        List<BitBoard> positions = new ArrayList<>();
+        addReachablePositions(new BitBoard(), BoardUtil.X_INDEX, new HashSet<>(), positions);
+        return positions;
+    }
+
+    private static void addReachablePositions(BitBoard board, int side, Set<Integer> seen, List<BitBoard> positions) {
+        if(board.isFull() || board.getWinningSide() != BoardUtil.EMPTY_SPACE_INDEX || !seen.add(getCode(board)))
+            return;
+        positions.add(new BitBoard(board));
+        for(int cell = 0; cell < board.getGeometry().getCellCount(); cell++) {
+            if(!board.isEmpty(cell))
+                continue;
+            board.place(cell, side);
+            addReachablePositions(board, BitBoard.getOtherSide(side), seen, positions);
+            board.clear(cell);
+        }
+    }
+
+    // The board read as a base-3 number, which fits an int up to 19 cells
+    static int getCode(BitBoard board) {
+        int code = 0;
+        for(int cell = board.getGeometry().getCellCount() - 1; cell >= 0; cell--)
+            code = 3 * code + board.getSide(cell);
+        return code;
+    }
+
+    static int getSideToMove(BitBoard board) {
+        return board.getStoneCount() % 2 == 0 ? BoardUtil.X_INDEX : BoardUtil.O_INDEX;
+    }
+
+    // The cell the strategy plays for side, without the announcement makeMove prints
+    static int chooseCell(ComputerStrategy strategy, BitBoard board, int side) {
+        BoardUtilWithAILogic boardUtil = toBoardUtil(board);
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            return board.getGeometry().getCell(strategy.makeMove(new GameRound(boardUtil, RoundType.MACHINE_ROUND),
+                    BoardUtil.CHARS_ALLOWED[side]));
+        } finally {
+            System.setOut(out);
+        }
+    }
+
+    static BoardUtilWithAILogic toBoardUtil(BitBoard board) {
+        BoardGeometry geometry = board.getGeometry();
+        BoardUtilWithAILogic boardUtil = new BoardUtilWithAILogic(geometry);
+        boardUtil.initEmptyBoard();
+        for(int cell = 0; cell < geometry.getCellCount(); cell++)
+            boardUtil.updateBoardValue(geometry.getRowIndex(cell), geometry.getColIndex(cell), board.getChar(cell));
+        return boardUtil;
+    }
+
+    static void deleteDirectory(Path directory) throws IOException {
+        try(Stream<Path> paths = Files.walk(directory)) {
+            for(Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator)
+                Files.delete(path);
+        }
+    }
+
+    static void flipBit(Path file, long offset) throws IOException {
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1);
+            channel.read(buffer, offset);
+            buffer.put(0, (byte) (buffer.get(0) ^ 1));
+            buffer.rewind();
+            channel.write(buffer, offset);
+        }
+    }
+
+    // Where record index starts in a segment: after the header (magic, version, segment index)
+    // and each earlier record's length, body and checksum
+    static long getRecordOffset(List<GameRecord> records, int index) {
+        long offset = 2 * Integer.BYTES + Long.BYTES;
+        for(GameRecord record : records.subList(0, index))
+            offset += Short.BYTES + record.getEncodedLength() + Integer.BYTES;
+        return offset;
+    }
+}
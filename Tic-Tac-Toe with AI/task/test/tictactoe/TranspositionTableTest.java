@@ -0,0 +1,78 @@
+package tictactoe;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TranspositionTableTest {
+    private static final BoardGeometry[] GEOMETRIES = {BoardGeometry.STANDARD, BoardGeometry.of(4, 3),
+            BoardGeometry.of(6, 4), BoardGeometry.of(8, 5), BoardGeometry.of(15, 5)};
+
+    @Test
+    public void inverseSymmetryMapsCellsBack() {
+        for(BoardGeometry geometry : GEOMETRIES) {
+            for(int symmetry = 0; symmetry < BoardGeometry.SYMMETRY_COUNT; symmetry++) {
+                int inverse = geometry.getInverseSymmetry(symmetry);
+                for(int cell = 0; cell < geometry.getCellCount(); cell++)
+                    assertEquals(cell, geometry.getSymmetricCell(inverse, geometry.getSymmetricCell(symmetry, cell)));
+            }
+        }
+    }
+
+    // Boards with a few marks scattered anywhere, sides alternating
+    @Test
+    public void symmetricBoardsShareTheCanonicalHash() {
+        SplittableRandom random = new SplittableRandom(4);
+        for(BoardGeometry geometry : GEOMETRIES) {
+            for(int n = 0; n < 50; n++) {
+                BitBoard board = new BitBoard(geometry);
+                for(int i = random.nextInt(geometry.getCellCount()); i > 0; i--) {
+                    int cell = random.nextInt(geometry.getCellCount());
+                    if(board.isEmpty(cell))
+                        board.place(cell, TestBoards.getSideToMove(board));
+                }
+                long canonicalHash = board.getSymmetricHash(board.getCanonicalSymmetry());
+                for(int symmetry = 0; symmetry < BoardGeometry.SYMMETRY_COUNT; symmetry++) {
+                    BitBoard symmetricBoard = transform(board, symmetry);
+                    assertEquals(board.getSymmetricHash(symmetry), symmetricBoard.getSymmetricHash(0));
+                    assertEquals(canonicalHash, symmetricBoard.getSymmetricHash(symmetricBoard.getCanonicalSymmetry()));
+                }
+            }
+        }
+    }
+
+    // A move stored from one orientation has to come back as the move a search of the other orientation picks
+    @Test
+    public void sharedTableChoosesTheMovesOfAFreshSearch() {
+        TranspositionTable table = new TranspositionTable(TranspositionTable.DEFAULT_SIZE);
+        List<BitBoard> positions = TestBoards.reachablePositions();
+        for(int symmetry = 0; symmetry < BoardGeometry.SYMMETRY_COUNT; symmetry++) {
+            for(BitBoard position : positions) {
+                BitBoard board = transform(position, symmetry);
+                int side = TestBoards.getSideToMove(board);
+                Move move = new HardGameStrategy(SearchMode.ALPHA_BETA, new TranspositionTable(64),
+                        SearchLimits.UNLIMITED).getBestMove(board, side);
+                Move cachedMove = new HardGameStrategy(SearchMode.ALPHA_BETA, table, SearchLimits.UNLIMITED)
+                        .getBestMove(board, side);
+                assertEquals(move.getScore(), cachedMove.getScore());
+                assertEquals(move.getElement().getRowIndex(), cachedMove.getElement().getRowIndex());
+                assertEquals(move.getElement().getColIndex(), cachedMove.getElement().getColIndex());
+            }
+        }
+        assertTrue(table.getHitCount() > table.getMissCount());
+    }
+
+    private static BitBoard transform(BitBoard board, int symmetry) {
+        BoardGeometry geometry = board.getGeometry();
+        BitBoard symmetricBoard = new BitBoard(geometry);
+        for(int cell = 0; cell < geometry.getCellCount(); cell++) {
+            if(!board.isEmpty(cell))
+                symmetricBoard.place(geometry.getSymmetricCell(symmetry, cell), board.getSide(cell));
+        }
+        return symmetricBoard;
+    }
+}